@@ -0,0 +1,85 @@
+package com.posts.benchmark;
+
+import com.posts.util.ContentCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 글 크기별 게시글 내용 압축, 복원 비용을 측정
+ * 원본 크기와 압축 후 저장 크기는 보조 결과 rawBytes, storedBytes로 기록
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentCodecBenchmark {
+
+    private static final String[] WORDS = {
+            "게시판", "글", "작성", "내용", "오늘", "날씨가", "좋아서", "산책을", "했습니다", "그리고",
+            "the", "spring", "boot", "server", "request", "response", "cache", "database", "index", "query"
+    };
+
+    @Param({"1024", "4096", "16384", "65536"})
+    private int length;
+
+    private final ContentCodec contentCodec = new ContentCodec(1024);
+
+    private String content;
+
+    private byte[] encoded;
+
+    private int rawBytes;
+
+    @Setup
+    public void setUp() {
+        content = realisticText(length, length);
+        encoded = contentCodec.encode(content);
+        rawBytes = content.getBytes(StandardCharsets.UTF_8).length;
+        if (!contentCodec.decode(encoded).equals(content)) {
+            throw new IllegalStateException("복원한 내용이 원본과 다릅니다.");
+        }
+    }
+
+    /**
+     * 자주 쓰는 단어가 반복되는 실제 게시글과 비슷한 문장 생성
+     */
+    private static String realisticText(int length, long seed) {
+        Random random = new Random(seed);
+        StringBuilder builder = new StringBuilder(length + 16);
+        while (builder.length() < length) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+            builder.append(random.nextInt(12) == 0 ? ".\n" : " ");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 벤치마크 점수와 함께 결과에 기록되는 크기
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Sizes {
+
+        public long rawBytes;
+
+        public long storedBytes;
+    }
+
+    @Benchmark
+    public byte[] encode(Sizes sizes) {
+        byte[] stored = contentCodec.encode(content);
+        sizes.rawBytes = rawBytes;
+        sizes.storedBytes = stored.length;
+        return stored;
+    }
+
+    @Benchmark
+    public String decode() {
+        return contentCodec.decode(encoded);
+    }
+}
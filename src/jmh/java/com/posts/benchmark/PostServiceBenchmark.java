@@ -0,0 +1,141 @@
+package com.posts.benchmark;
+
+import com.posts.PostsApplication;
+import com.posts.domain.Post;
+import com.posts.repository.PostRepository;
+import com.posts.request.PostWrite;
+import com.posts.response.PostDetail;
+import com.posts.response.PostSummary;
+import com.posts.service.PostService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인메모리 H2로 애플리케이션을 띄워 PostService의 조회, 작성 비용을 측정
+ * 웹 서버 없이 서비스 빈을 직접 호출하므로 HTTP, 직렬화 비용은 포함하지 않음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostServiceBenchmark {
+
+    private static final int POSTS = 10_000;
+
+    private ConfigurableApplicationContext context;
+
+    private PostService postService;
+
+    private PostRepository postRepository;
+
+    private PostWrite request;
+
+    private String encodedPassword;
+
+    private long firstId;
+
+    private long index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(PostsApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.root=WARN", "spring.jpa.show-sql=false")
+                .run();
+        postService = context.getBean(PostService.class);
+        postRepository = context.getBean(PostRepository.class);
+        encodedPassword = context.getBean(PasswordEncoder.class).encode("password");
+
+        List<Post> posts = new ArrayList<>(POSTS);
+        for (int i = 1; i <= POSTS; ++i) {
+            posts.add(Post.builder()
+                          .username("username " + i)
+                          .password(encodedPassword)
+                          .title("title " + i)
+                          .content("content " + i)
+                          .build());
+        }
+        postRepository.saveAll(posts);
+        firstId = posts.get(0).getId();
+
+        request = PostWrite.builder()
+                           .username("username")
+                           .rawPassword("password")
+                           .title("title")
+                           .content("content")
+                           .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private long nextId() {
+        return firstId + (index++ % POSTS);
+    }
+
+    /**
+     * 글 단건 조회, 워밍업 이후에는 대부분 캐시 적중
+     */
+    @Benchmark
+    public PostDetail get() {
+        return postService.get(nextId());
+    }
+
+    /**
+     * 캐시를 거치지 않는 단건 조회 쿼리
+     */
+    @Benchmark
+    public PostDetail findDetail() {
+        return postRepository.findDetail(nextId()).orElseThrow();
+    }
+
+    /**
+     * 메모리에 보관하는 앞쪽 페이지 조회
+     */
+    @Benchmark
+    public List<PostSummary> getListSnapshot() {
+        return postService.getList(1);
+    }
+
+    /**
+     * DB에서 조회하는 뒤쪽 페이지 조회
+     */
+    @Benchmark
+    public List<PostSummary> getListDeep() {
+        return postService.getList(500);
+    }
+
+    /**
+     * BCrypt 암호화를 포함한 글 작성
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Long write() {
+        return postService.write(request);
+    }
+
+    /**
+     * 암호화된 비밀번호로 저장만 하는 글 작성, write와의 차이가 BCrypt 비용
+     */
+    @Benchmark
+    public Long writeWithoutBCrypt() {
+        Post post = Post.builder()
+                        .username(request.getUsername())
+                        .password(encodedPassword)
+                        .title(request.getTitle())
+                        .content(request.getContent())
+                        .build();
+        return postRepository.save(post).getId();
+    }
+}
@@ -0,0 +1,110 @@
+package com.posts.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.posts.response.PostCursorPage;
+import com.posts.response.PostDetail;
+import com.posts.response.PostSummary;
+import com.posts.util.IdConverter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 응답 dto 생성, id 변환, Jackson 직렬화 비용을 측정
+ * ObjectMapper는 스프링이 만드는 것과 같은 설정으로 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseBenchmark {
+
+    private final IdConverter<Long> idConverter = new IdConverter<>();
+
+    private ObjectWriter detailWriter;
+
+    private ObjectWriter listWriter;
+
+    private ObjectWriter cursorPageWriter;
+
+    private PostDetail postDetail;
+
+    private List<PostSummary> postSummaries;
+
+    private PostCursorPage postCursorPage;
+
+    private String content;
+
+    private long id;
+
+    @Setup
+    public void setUp() {
+        content = "content ".repeat(64);
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        detailWriter = objectMapper.writerFor(PostDetail.class);
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                                                        .constructCollectionType(List.class, PostSummary.class));
+        cursorPageWriter = objectMapper.writerFor(PostCursorPage.class);
+
+        postDetail = buildDetail();
+        postSummaries = LongStream.rangeClosed(1, 10)
+                                  .mapToObj(i -> PostSummary.builder()
+                                                            .id(i)
+                                                            .username("username " + i)
+                                                            .title("title " + i)
+                                                            .build())
+                                  .toList();
+        postCursorPage = PostCursorPage.builder()
+                                       .posts(postSummaries)
+                                       .nextCursor("MQ")
+                                       .build();
+    }
+
+    @Benchmark
+    public PostDetail buildDetail() {
+        return PostDetail.builder()
+                         .id(++id)
+                         .username("username")
+                         .title("title")
+                         .content(content)
+                         .version(0L)
+                         .build();
+    }
+
+    @Benchmark
+    public PostSummary buildSummary() {
+        return PostSummary.builder()
+                          .id(++id)
+                          .username("username")
+                          .title("title")
+                          .build();
+    }
+
+    @Benchmark
+    public Map<String, Long> convertId() {
+        return idConverter.convert(++id);
+    }
+
+    @Benchmark
+    public byte[] serializeDetail() throws JsonProcessingException {
+        return detailWriter.writeValueAsBytes(postDetail);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return listWriter.writeValueAsBytes(postSummaries);
+    }
+
+    @Benchmark
+    public byte[] serializeCursorPage() throws JsonProcessingException {
+        return cursorPageWriter.writeValueAsBytes(postCursorPage);
+    }
+}
@@ -0,0 +1,148 @@
+package com.posts.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.posts.response.PostCursorPage;
+import com.posts.response.PostDetail;
+import com.posts.response.PostSummary;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 응답 dto를 JSON, CBOR, Smile로 직렬화, 역직렬화하는 비용을 비교
+ * 형식별 본문 크기는 encode 벤치마크의 보조 결과 bytes로 기록
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseFormatBenchmark {
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    private String format;
+
+    private ObjectWriter detailWriter;
+
+    private ObjectReader detailReader;
+
+    private ObjectWriter listWriter;
+
+    private ObjectReader listReader;
+
+    private ObjectWriter cursorPageWriter;
+
+    private ObjectReader cursorPageReader;
+
+    private PostDetail postDetail;
+
+    private List<PostSummary> postSummaries;
+
+    private PostCursorPage postCursorPage;
+
+    private byte[] detailBytes;
+
+    private byte[] listBytes;
+
+    private byte[] cursorPageBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "CBOR" -> new CBORFactory();
+            case "SMILE" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                                                              .factory(factory)
+                                                              .build();
+        CollectionType listType = objectMapper.getTypeFactory()
+                                              .constructCollectionType(List.class, PostSummary.class);
+        detailWriter = objectMapper.writerFor(PostDetail.class);
+        detailReader = objectMapper.readerFor(PostDetail.class);
+        listWriter = objectMapper.writerFor(listType);
+        listReader = objectMapper.readerFor(listType);
+        cursorPageWriter = objectMapper.writerFor(PostCursorPage.class);
+        cursorPageReader = objectMapper.readerFor(PostCursorPage.class);
+
+        postDetail = PostDetail.builder()
+                               .id(1L)
+                               .username("username")
+                               .title("title")
+                               .content("content ".repeat(64))
+                               .version(0L)
+                               .build();
+        postSummaries = LongStream.rangeClosed(1, 10)
+                                  .mapToObj(i -> PostSummary.builder()
+                                                            .id(i)
+                                                            .username("username " + i)
+                                                            .title("title " + i)
+                                                            .build())
+                                  .toList();
+        postCursorPage = PostCursorPage.builder()
+                                       .posts(postSummaries)
+                                       .nextCursor("MQ")
+                                       .build();
+
+        detailBytes = detailWriter.writeValueAsBytes(postDetail);
+        listBytes = listWriter.writeValueAsBytes(postSummaries);
+        cursorPageBytes = cursorPageWriter.writeValueAsBytes(postCursorPage);
+    }
+
+    /**
+     * 벤치마크 점수와 함께 결과에 기록되는 본문 크기
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Size {
+
+        public long bytes;
+    }
+
+    @Benchmark
+    public byte[] encodeDetail(Size size) throws IOException {
+        byte[] bytes = detailWriter.writeValueAsBytes(postDetail);
+        size.bytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public PostDetail decodeDetail() throws IOException {
+        return detailReader.readValue(detailBytes);
+    }
+
+    @Benchmark
+    public byte[] encodeList(Size size) throws IOException {
+        byte[] bytes = listWriter.writeValueAsBytes(postSummaries);
+        size.bytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public List<PostSummary> decodeList() throws IOException {
+        return listReader.readValue(listBytes);
+    }
+
+    @Benchmark
+    public byte[] encodeCursorPage(Size size) throws IOException {
+        byte[] bytes = cursorPageWriter.writeValueAsBytes(postCursorPage);
+        size.bytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public PostCursorPage decodeCursorPage() throws IOException {
+        return cursorPageReader.readValue(cursorPageBytes);
+    }
+}
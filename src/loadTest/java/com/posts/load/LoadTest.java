@@ -0,0 +1,237 @@
+package com.posts.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.posts.PostsApplication;
+import com.posts.domain.Post;
+import com.posts.repository.PostRepository;
+import com.posts.timing.EndpointConnectionMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.File;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 임의 포트에 인메모리 H2로 애플리케이션을 띄우고 가상 사용자들이 정해진 비율로 요청을 보내는 부하 테스트
+ * 요청 종류별 처리량과 응답 시간 백분위를 출력하고 JSON으로 저장, 예산을 넘으면 종료 코드 1로 끝남
+ * 요청 종류별로 요청 하나가 얻은 커넥션 수와 커넥션을 기다리고 잡고 있던 시간도 함께 출력
+ * <p>
+ * ./gradlew loadTest -Ploadtest.users=64 -Ploadtest.duration-seconds=60
+ */
+public class LoadTest {
+
+    private static final int SEED_BATCH_SIZE = 500;
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private static final String[] PERCENTILE_LABELS = {"p50", "p90", "p99", "p99.9"};
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = new LoadTestConfig();
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<String> violations;
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PostsApplication.class)
+                .properties("server.port=0", "spring.main.banner-mode=off", "logging.level.root=WARN")
+                .run(args)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+            HttpClient httpClient = HttpClient.newBuilder()
+                                              .connectTimeout(Duration.ofSeconds(5))
+                                              .build();
+
+            List<Long> seededIds = seed(context, config.seedPosts());
+            System.out.printf("글 %d개 작성, 가상 사용자 %d명, 워밍업 %d초, 측정 %d초%n",
+                              seededIds.size(), config.users(), config.warmupSeconds(), config.durationSeconds());
+
+            Map<Operation, LatencyRecorder> results = run(config, httpClient, objectMapper, baseUrl, seededIds);
+            violations = report(config, objectMapper, results, context.getBean(MeterRegistry.class));
+        }
+
+        if (!violations.isEmpty()) {
+            violations.forEach(violation -> System.out.println("예산 초과: " + violation));
+            System.exit(1);
+        }
+        System.out.println("예산 이내");
+        System.exit(0);
+    }
+
+    /**
+     * 측정 대상이 아닌 준비 단계이므로 HTTP와 글마다의 BCrypt 없이 같은 암호화 비밀번호로 한 번에 저장
+     */
+    private static List<Long> seed(ConfigurableApplicationContext context, int posts) {
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode(VirtualUser.PASSWORD);
+        PostRepository postRepository = context.getBean(PostRepository.class);
+        List<Long> ids = new ArrayList<>(posts);
+        for (int from = 0; from < posts; from += SEED_BATCH_SIZE) {
+            List<Post> batch = new ArrayList<>(SEED_BATCH_SIZE);
+            for (int i = from; i < Math.min(from + SEED_BATCH_SIZE, posts); ++i) {
+                batch.add(Post.builder()
+                              .username("user " + i)
+                              .password(encodedPassword)
+                              .title("load test " + i)
+                              .content("load test content " + i)
+                              .build());
+            }
+            postRepository.saveAll(batch)
+                          .forEach(post -> ids.add(post.getId()));
+        }
+        return ids;
+    }
+
+    private static Map<Operation, LatencyRecorder> run(LoadTestConfig config, HttpClient httpClient, ObjectMapper objectMapper,
+                                                       String baseUrl, List<Long> seededIds) throws InterruptedException {
+        List<Operation> weighted = new ArrayList<>();
+        config.mix().forEach((operation, weight) -> {
+            for (int i = 0; i < weight; ++i) {
+                weighted.add(operation);
+            }
+        });
+        if (weighted.isEmpty()) {
+            throw new IllegalStateException("loadtest.mix.*가 모두 0");
+        }
+
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.warmupSeconds());
+        long until = measureFrom + TimeUnit.SECONDS.toNanos(config.durationSeconds());
+        List<VirtualUser> users = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(config.users());
+        for (int i = 0; i < config.users(); ++i) {
+            VirtualUser user = new VirtualUser(httpClient, objectMapper, baseUrl, seededIds,
+                                               weighted.toArray(Operation[]::new), measureFrom, until);
+            users.add(user);
+            executor.execute(user);
+        }
+        executor.shutdown();
+        executor.awaitTermination(config.warmupSeconds() + config.durationSeconds() + 60L, TimeUnit.SECONDS);
+
+        Map<Operation, LatencyRecorder> results = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            LatencyRecorder merged = new LatencyRecorder();
+            users.forEach(user -> merged.merge(user.getRecorders().get(operation)));
+            results.put(operation, merged);
+        }
+        return results;
+    }
+
+    /**
+     * @return 예산을 넘은 항목들
+     */
+    private static List<String> report(LoadTestConfig config, ObjectMapper objectMapper,
+                                       Map<Operation, LatencyRecorder> results, MeterRegistry meterRegistry) throws Exception {
+        List<String> violations = new ArrayList<>();
+        double seconds = config.durationSeconds();
+        long total = 0;
+        long errors = 0;
+
+        ObjectNode json = objectMapper.createObjectNode();
+        json.put("users", config.users());
+        json.put("durationSeconds", config.durationSeconds());
+        ArrayNode endpoints = json.putArray("endpoints");
+
+        System.out.printf("%-32s %8s %7s %9s %9s %9s %9s %9s%n",
+                          "endpoint", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)");
+        for (Map.Entry<Operation, LatencyRecorder> entry : results.entrySet()) {
+            Operation operation = entry.getKey();
+            LatencyRecorder recorder = entry.getValue();
+            total += recorder.count();
+            errors += recorder.errors();
+
+            ObjectNode endpoint = endpoints.addObject();
+            endpoint.put("endpoint", operation.getEndpoint());
+            endpoint.put("count", recorder.count());
+            endpoint.put("errors", recorder.errors());
+            endpoint.put("throughput", recorder.count() / seconds);
+            System.out.printf("%-32s %8d %7d %9.1f", operation.getEndpoint(), recorder.count(), recorder.errors(),
+                              recorder.count() / seconds);
+            for (int i = 0; i < PERCENTILES.length; ++i) {
+                double millis = recorder.percentileMillis(PERCENTILES[i]);
+                endpoint.put(PERCENTILE_LABELS[i] + "Millis", millis);
+                System.out.printf(" %9.2f", millis);
+            }
+            System.out.println();
+
+            double budget = config.p99BudgetMillis(operation);
+            double p99 = recorder.percentileMillis(99);
+            if (budget > 0 && p99 > budget) {
+                violations.add(String.format("%s p99 %.2fms > %.2fms", operation.getEndpoint(), p99, budget));
+            }
+        }
+
+        reportConnections(meterRegistry, endpoints);
+
+        double throughput = total / seconds;
+        double errorRate = total == 0 ? 0 : (double) errors / total;
+        System.out.printf("전체 %d건, %.1f req/s, 오류율 %.4f%n", total, throughput, errorRate);
+        json.put("throughput", throughput);
+        json.put("errorRate", errorRate);
+
+        if (config.minThroughput() > 0 && throughput < config.minThroughput()) {
+            violations.add(String.format("처리량 %.1f req/s < %.1f req/s", throughput, config.minThroughput()));
+        }
+        if (config.maxErrorRate() > 0 && errorRate > config.maxErrorRate()) {
+            violations.add(String.format("오류율 %.4f > %.4f", errorRate, config.maxErrorRate()));
+        }
+        json.putPOJO("violations", violations);
+
+        File reportFile = new File(config.reportFile());
+        reportFile.getParentFile().mkdirs();
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile, json);
+        System.out.println("결과 저장 " + reportFile.getAbsolutePath());
+        return violations;
+    }
+
+    /**
+     * 서버의 endpoint별 커넥션 메트릭을 출력하고 endpoints의 같은 순서 항목에 추가, 워밍업 구간도 포함
+     * 커넥션 1초당 요청 수는 요청 수를 커넥션을 잡고 있던 시간의 합으로 나눈 값
+     */
+    private static void reportConnections(MeterRegistry meterRegistry, ArrayNode endpoints) {
+        System.out.printf("%-32s %9s %12s %10s %10s %14s%n",
+                          "endpoint", "conn/req", "acquire(ms)", "hold(ms)", "hold p99", "req/conn-sec");
+        for (int i = 0; i < endpoints.size(); ++i) {
+            ObjectNode endpoint = (ObjectNode) endpoints.get(i);
+            String[] methodAndUri = endpoint.get("endpoint").asText().split(" ", 2);
+            DistributionSummary connections = meterRegistry.find(EndpointConnectionMetrics.COUNT)
+                                                           .tag("method", methodAndUri[0])
+                                                           .tag("uri", methodAndUri[1])
+                                                           .summary();
+            Timer acquire = meterRegistry.find(EndpointConnectionMetrics.ACQUIRE)
+                                         .tag("method", methodAndUri[0])
+                                         .tag("uri", methodAndUri[1])
+                                         .timer();
+            Timer hold = meterRegistry.find(EndpointConnectionMetrics.HOLD)
+                                      .tag("method", methodAndUri[0])
+                                      .tag("uri", methodAndUri[1])
+                                      .timer();
+            double perRequest = connections == null ? 0 : connections.mean();
+            double acquireMillis = acquire == null ? 0 : acquire.mean(TimeUnit.MILLISECONDS);
+            double holdMillis = hold == null ? 0 : hold.mean(TimeUnit.MILLISECONDS);
+            double holdP99Millis = hold == null ? 0 : Arrays.stream(hold.takeSnapshot().percentileValues())
+                                                            .filter(value -> value.percentile() == 0.99)
+                                                            .mapToDouble(value -> value.value(TimeUnit.MILLISECONDS))
+                                                            .findFirst()
+                                                            .orElse(0);
+            double holdSeconds = hold == null ? 0 : hold.totalTime(TimeUnit.SECONDS);
+            double requestsPerConnectionSecond = connections == null || holdSeconds == 0 ? 0 : connections.count() / holdSeconds;
+
+            endpoint.put("connectionsPerRequest", perRequest);
+            endpoint.put("acquireMeanMillis", acquireMillis);
+            endpoint.put("holdMeanMillis", holdMillis);
+            endpoint.put("holdP99Millis", holdP99Millis);
+            endpoint.put("requestsPerConnectionSecond", requestsPerConnectionSecond);
+            System.out.printf("%-32s %9.2f %12.3f %10.3f %10.3f %14.1f%n", endpoint.get("endpoint").asText(),
+                              perRequest, acquireMillis, holdMillis, holdP99Millis, requestsPerConnectionSecond);
+        }
+    }
+}
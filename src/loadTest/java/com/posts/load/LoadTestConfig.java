@@ -0,0 +1,82 @@
+package com.posts.load;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * loadtest.properties의 기본값에 같은 이름의 시스템 프로퍼티를 덮어쓴 설정
+ */
+public class LoadTestConfig {
+
+    private final Properties properties = new Properties();
+
+    public LoadTestConfig() throws IOException {
+        try (InputStream in = LoadTestConfig.class.getResourceAsStream("/loadtest.properties")) {
+            if (in != null) {
+                properties.load(in);
+            }
+        }
+        System.getProperties()
+              .stringPropertyNames()
+              .stream()
+              .filter(name -> name.startsWith("loadtest."))
+              .forEach(name -> properties.setProperty(name, System.getProperty(name)));
+    }
+
+    public int users() {
+        return getInt("loadtest.users");
+    }
+
+    public int durationSeconds() {
+        return getInt("loadtest.duration-seconds");
+    }
+
+    public int warmupSeconds() {
+        return getInt("loadtest.warmup-seconds");
+    }
+
+    public int seedPosts() {
+        return getInt("loadtest.seed-posts");
+    }
+
+    public String reportFile() {
+        return properties.getProperty("loadtest.report-file");
+    }
+
+    /**
+     * @return 요청 종류별 비율, 0인 종류는 보내지 않음
+     */
+    public Map<Operation, Integer> mix() {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            mix.put(operation, getInt("loadtest.mix." + operation.key()));
+        }
+        return mix;
+    }
+
+    public double minThroughput() {
+        return getDouble("loadtest.budget.min-throughput");
+    }
+
+    public double maxErrorRate() {
+        return getDouble("loadtest.budget.max-error-rate");
+    }
+
+    /**
+     * @return 요청 종류의 p99 예산(ms), 0이면 확인하지 않음
+     */
+    public double p99BudgetMillis(Operation operation) {
+        return getDouble("loadtest.budget." + operation.key() + ".p99-ms");
+    }
+
+    private int getInt(String key) {
+        return Integer.parseInt(properties.getProperty(key, "0").trim());
+    }
+
+    private double getDouble(String key) {
+        return Double.parseDouble(properties.getProperty(key, "0").trim());
+    }
+}
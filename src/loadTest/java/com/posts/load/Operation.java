@@ -0,0 +1,33 @@
+package com.posts.load;
+
+import java.util.Locale;
+
+/**
+ * 부하 테스트에서 보내는 요청 종류, 결과와 예산은 이 단위로 집계
+ */
+public enum Operation {
+
+    LIST("GET /posts/{page}"),
+    DETAIL("GET /posts/post/{id}"),
+    WRITE("POST /posts/post"),
+    EDIT("PATCH /posts/post/{id}"),
+    DELETE("DELETE /posts/post/{id}"),
+    CHECK("POST /posts/post/check/{id}");
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @return 설정 키에 사용하는 소문자 이름
+     */
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
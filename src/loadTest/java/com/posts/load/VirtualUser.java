@@ -0,0 +1,128 @@
+package com.posts.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 정해진 비율로 요청 종류를 골라 끝날 때까지 요청을 반복하는 가상 사용자
+ * 조회, 수정, 비밀번호 확인은 미리 작성한 글에, 삭제는 이 사용자가 작성한 글에만 보내서 다른 사용자의 요청이 404가 되지 않음
+ */
+public class VirtualUser implements Runnable {
+
+    static final String PASSWORD = "password";
+
+    private final HttpClient httpClient;
+
+    private final ObjectMapper objectMapper;
+
+    private final String baseUrl;
+
+    private final List<Long> seededIds;
+
+    private final Operation[] weighted;
+
+    private final long measureFrom;
+
+    private final long until;
+
+    private final int pages;
+
+    private final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+
+    private final List<Long> writtenIds = new ArrayList<>();
+
+    public VirtualUser(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl, List<Long> seededIds,
+                       Operation[] weighted, long measureFrom, long until) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.seededIds = seededIds;
+        this.weighted = weighted;
+        this.measureFrom = measureFrom;
+        this.until = until;
+        this.pages = Math.max(1, seededIds.size() / 10);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+    }
+
+    public Map<Operation, LatencyRecorder> getRecorders() {
+        return recorders;
+    }
+
+    @Override
+    public void run() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < until) {
+            Operation operation = weighted[random.nextInt(weighted.length)];
+            if (operation == Operation.DELETE && writtenIds.isEmpty()) {
+                operation = Operation.WRITE;
+            }
+            long start = System.nanoTime();
+            boolean error;
+            try {
+                error = send(operation, random) >= 400;
+            } catch (Exception e) {
+                error = true;
+            }
+            if (start >= measureFrom) {
+                recorders.get(operation).record(System.nanoTime() - start, error);
+            }
+        }
+    }
+
+    private int send(Operation operation, ThreadLocalRandom random) throws Exception {
+        Long id = seededIds.get(random.nextInt(seededIds.size()));
+        return switch (operation) {
+            case LIST -> send(HttpRequest.newBuilder(uri("/posts/" + (1 + random.nextInt(pages))))
+                                         .GET()).statusCode();
+            case DETAIL -> send(HttpRequest.newBuilder(uri("/posts/post/" + id))
+                                           .GET()).statusCode();
+            case WRITE -> {
+                HttpResponse<String> response = send(json(uri("/posts/post"))
+                                                             .POST(HttpRequest.BodyPublishers.ofString(writeBody(random))));
+                if (response.statusCode() < 400) {
+                    writtenIds.add(objectMapper.readTree(response.body()).get("id").asLong());
+                }
+                yield response.statusCode();
+            }
+            case EDIT -> send(json(uri("/posts/post/" + id))
+                                      .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                                              "{\"title\":\"edited " + random.nextInt() + "\",\"content\":\"edited content\"}")))
+                    .statusCode();
+            case DELETE -> send(HttpRequest.newBuilder(uri("/posts/post/" + writtenIds.remove(writtenIds.size() - 1)))
+                                           .DELETE()).statusCode();
+            case CHECK -> send(HttpRequest.newBuilder(uri("/posts/post/check/" + id))
+                                          .header("Content-Type", "text/plain")
+                                          .POST(HttpRequest.BodyPublishers.ofString(PASSWORD))).statusCode();
+        };
+    }
+
+    static String writeBody(ThreadLocalRandom random) {
+        int n = random.nextInt(1_000_000);
+        return "{\"username\":\"user " + n + "\",\"rawPassword\":\"" + PASSWORD + "\","
+                + "\"title\":\"load test " + n + "\",\"content\":\"load test content " + n + "\"}";
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder builder) throws Exception {
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder json(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                          .header("Content-Type", "application/json");
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+}
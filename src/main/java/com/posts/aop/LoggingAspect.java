@@ -1,25 +0,0 @@
-package com.posts.aop;
-
-import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
-import org.aspectj.lang.annotation.Pointcut;
-import org.aspectj.lang.reflect.MethodSignature;
-import org.springframework.stereotype.Component;
-
-@Slf4j
-@Component
-@Aspect
-public class LoggingAspect {
-
-    @Pointcut("execution(* com.posts.service..*.*(..))")
-    private void cut() {
-    }
-
-    @Before("cut()")
-    public void logging(JoinPoint joinPoint) {
-        MethodSignature methodSignature = (MethodSignature) joinPoint.getSignature();
-        log.info("[LoggingAspect] {}", methodSignature.toShortString());
-    }
-}
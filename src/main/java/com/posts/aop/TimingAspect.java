@@ -0,0 +1,96 @@
+package com.posts.aop;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 메서드 실행 시간을 메서드별 Timer(post.service)에 기록
+ * p50, p99, p999와 호출 수, 최대 시간은 /actuator/metrics/post.service에서 class, method, exception 태그로 확인
+ * CompletableFuture를 리턴하는 메서드는 완료될 때까지의 시간을 기록
+ * 호출마다 로그를 남기지 않고 DEBUG 레벨일 때만 sample-rate번에 한 번 실행 시간을 남김
+ */
+@Slf4j
+@Component
+@Aspect
+public class TimingAspect {
+
+    static final String METRIC_NAME = "post.service";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    private final int sampleRate;
+
+    // 성공한 호출의 Timer는 메서드마다 한 번만 찾아서 보관
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    public TimingAspect(MeterRegistry meterRegistry,
+                        @Value("${post.aop.debug-sample-rate}") int sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+    }
+
+    @Pointcut("execution(* com.posts.service..*.*(..))")
+    private void cut() {
+    }
+
+    @Around("cut()")
+    public Object timing(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature methodSignature = (MethodSignature) joinPoint.getSignature();
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            record(methodSignature, start, e);
+            throw e;
+        }
+        if (result instanceof CompletableFuture<?> future) {
+            // 기록이 끝난 뒤 완료되는 future를 리턴해서 호출한 쪽이 완료를 확인한 시점에는 항상 기록되어 있음
+            return future.whenComplete((value, e) -> record(methodSignature, start, e));
+        }
+        record(methodSignature, start, null);
+        return result;
+    }
+
+    private void record(MethodSignature methodSignature, long start, Throwable e) {
+        long elapsed = System.nanoTime() - start;
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        Timer timer = cause == null
+                ? timers.computeIfAbsent(methodSignature.getMethod(), method -> timer(methodSignature, NO_EXCEPTION))
+                : timer(methodSignature, cause.getClass().getSimpleName());
+        timer.record(elapsed, TimeUnit.NANOSECONDS);
+
+        if (log.isDebugEnabled() && sampleRate > 0 && ThreadLocalRandom.current().nextInt(sampleRate) == 0) {
+            log.debug("[TimingAspect] {} {}us exception={}", methodSignature.toShortString(),
+                      TimeUnit.NANOSECONDS.toMicros(elapsed), cause == null ? NO_EXCEPTION : cause.getClass().getSimpleName());
+        }
+    }
+
+    private Timer timer(MethodSignature methodSignature, String exception) {
+        return Timer.builder(METRIC_NAME)
+                    .description("서비스 메서드 실행 시간")
+                    .tag("class", methodSignature.getDeclaringType().getSimpleName())
+                    .tag("method", methodSignature.getName())
+                    .tag("exception", exception)
+                    .publishPercentiles(0.5, 0.99, 0.999)
+                    .register(meterRegistry);
+    }
+}
@@ -1,11 +1,27 @@
 package com.posts.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.posts.timing.ServerTimingJacksonConverter;
+import com.posts.util.CursorCodec;
+import com.posts.util.ETagGenerator;
 import com.posts.util.IdConverter;
+import com.posts.util.ResponseFormat;
+import com.posts.util.SerializedResponseWriter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Map;
+
+@EnableScheduling
 @Configuration
 public class AppConfig {
 
@@ -18,4 +34,45 @@ public class AppConfig {
     public IdConverter<Long> idConverter() {
         return new IdConverter<>();
     }
+
+    @Bean
+    public CursorCodec cursorCodec() {
+        return new CursorCodec();
+    }
+
+    @Bean
+    public ETagGenerator eTagGenerator() {
+        return new ETagGenerator();
+    }
+
+    @Bean
+    public SerializedResponseWriter serializedResponseWriter(ObjectMapper objectMapper,
+                                                             MappingJackson2CborHttpMessageConverter cborConverter,
+                                                             MappingJackson2SmileHttpMessageConverter smileConverter) {
+        return new SerializedResponseWriter(Map.of(ResponseFormat.JSON, objectMapper,
+                                                   ResponseFormat.CBOR, cborConverter.getObjectMapper(),
+                                                   ResponseFormat.SMILE, smileConverter.getObjectMapper()),
+                                            eTagGenerator());
+    }
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new ServerTimingJacksonConverter(objectMapper);
+    }
+
+    /**
+     * Accept: application/cbor 응답, 스프링 부트의 Jackson 설정을 그대로 적용
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter mappingJackson2CborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Accept: application/x-jackson-smile 응답, 스프링 부트의 Jackson 설정을 그대로 적용
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter mappingJackson2SmileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
 }
@@ -0,0 +1,64 @@
+package com.posts.config;
+
+import com.posts.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * post.datasource.routing.enabled=true이면 spring.datasource 대신 primary와 replica 커넥션 풀로 DataSource를 구성
+ * 풀은 빈이 아니므로 HikariCP 메트릭(hikaricp.connections.*)을 여기서 연결하고, pool 태그로 primary, replica-0, ...을 구분
+ * open-in-view가 켜져 있으면 요청 안의 트랜잭션들이 처음 얻은 커넥션을 계속 쓰므로 spring.jpa.open-in-view=false와 함께 사용
+ */
+@ConditionalOnProperty(name = "post.datasource.routing.enabled", havingValue = "true")
+@Configuration
+public class RoutingDataSourceConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Value("${post.datasource.primary-url}") String primaryUrl,
+                                                             @Value("${post.datasource.replica-urls}") List<String> replicaUrls,
+                                                             @Value("${post.datasource.username}") String username,
+                                                             @Value("${post.datasource.password}") String password,
+                                                             MeterRegistry meterRegistry) {
+        MicrometerMetricsTrackerFactory metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+        DataSource primary = pool("primary", primaryUrl, username, password, metrics);
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); ++i) {
+            replicas.add(pool("replica-" + i, replicaUrls.get(i), username, password, metrics));
+        }
+        return new ReplicaRoutingDataSource(primary, replicas);
+    }
+
+    /**
+     * 트랜잭션이 시작되고 첫 쿼리를 실행할 때 커넥션을 얻어서 읽기 전용 여부로 라우팅되도록 함
+     */
+    @Primary
+    @Bean
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private static DataSource pool(String name, String url, String username, String password,
+                                   MicrometerMetricsTrackerFactory metrics) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                                                       .type(HikariDataSource.class)
+                                                       .url(url)
+                                                       .username(username)
+                                                       .password(password)
+                                                       .build();
+        dataSource.setPoolName(name);
+        dataSource.setMetricsTrackerFactory(metrics);
+        return dataSource;
+    }
+}
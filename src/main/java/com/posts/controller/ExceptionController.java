@@ -1,12 +1,17 @@
 package com.posts.controller;
 
+import com.posts.exception.BatchSizeExceededException;
 import com.posts.exception.IncorrectPasswordException;
+import com.posts.exception.InvalidCursorException;
 import com.posts.exception.NotFoundPostException;
+import com.posts.exception.PostVersionMismatchException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import java.util.concurrent.RejectedExecutionException;
+
 @ControllerAdvice
 public class ExceptionController {
 
@@ -19,4 +24,24 @@ public class ExceptionController {
     @ExceptionHandler(IncorrectPasswordException.class)
     public void incorrectPasswordException() {
     }
+
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    @ExceptionHandler(PostVersionMismatchException.class)
+    public void postVersionMismatchException() {
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidCursorException.class)
+    public void invalidCursorException() {
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(BatchSizeExceededException.class)
+    public void batchSizeExceededException() {
+    }
+
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(RejectedExecutionException.class)
+    public void rejectedExecutionException() {
+    }
 }
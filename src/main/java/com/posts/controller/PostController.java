@@ -2,15 +2,33 @@ package com.posts.controller;
 
 import com.posts.request.PostEdit;
 import com.posts.request.PostWrite;
+import com.posts.response.PostCursorPage;
 import com.posts.response.PostDetail;
+import com.posts.response.PostImportResult;
+import com.posts.response.PostSuggestion;
+import com.posts.response.SerializedResponse;
 import com.posts.response.PostSummary;
 import com.posts.service.PostService;
+import com.posts.service.ResponseBytesCache;
+import com.posts.util.ETagGenerator;
+import com.posts.util.ResponseFormat;
+import com.posts.util.SerializedResponseWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 @RequiredArgsConstructor
 @RequestMapping("/posts")
@@ -19,60 +37,195 @@ public class PostController {
 
     private final PostService postService;
 
+    private final ETagGenerator eTagGenerator;
+
+    private final ResponseBytesCache responseBytesCache;
+
+    private final SerializedResponseWriter serializedResponseWriter;
+
     /**
-     * 글 조회
+     * 글 조회, 직렬화된 응답이 캐시에 있으면 그대로 응답
+     * Accept에 따라 JSON, CBOR, Smile로 응답
+     * If-None-Match가 현재 버전, 형식, 압축의 ETag와 같으면 본문을 읽지 않고 304 응답
      *
      * @param id 글 id
-     * @return PostDetail 응답 dto
      */
     @GetMapping("/post/{id}")
-    public PostDetail get(@PathVariable(name = "id") Long id) {
-        return postService.get(id);
+    public void get(@PathVariable(name = "id") Long id, ServletWebRequest webRequest, HttpServletResponse response)
+            throws IOException, HttpMediaTypeNotAcceptableException {
+        ResponseFormat format = ResponseFormat.negotiate(webRequest.getHeader(HttpHeaders.ACCEPT));
+        serializedResponseWriter.vary(response);
+        SerializedResponse cached = responseBytesCache.getDetailIfPresent(id, format);
+        String eTag = cached != null
+                ? serializedResponseWriter.eTag(cached, webRequest.getRequest())
+                : serializedResponseWriter.eTag(eTagGenerator.of(id, postService.getVersion(id)), format, webRequest.getRequest());
+        if (webRequest.checkNotModified(eTag)) {
+            return;
+        }
+        if (cached == null) {
+            cached = responseBytesCache.getDetail(id, format, key -> {
+                PostDetail postDetail = postService.get(key);
+                return serializedResponseWriter.serialize(postDetail, eTagGenerator.of(postDetail.getId(), postDetail.getVersion()),
+                                                          format);
+            });
+        }
+        serializedResponseWriter.write(cached, webRequest.getRequest(), response);
     }
 
     /**
      * url에 페이지 번호를 넣지 않는 메인 화면
-     *
-     * @return 1페이지 리턴
      */
     @GetMapping("/")
-    public List<PostSummary> getInitialPage() {
-        return postService.getList(1);
+    public void getInitialPage(ServletWebRequest webRequest, HttpServletResponse response)
+            throws IOException, HttpMediaTypeNotAcceptableException {
+        writePage(1, webRequest, response);
     }
 
     /**
-     * 해당 페이지 글들 조회
+     * 해당 페이지 글들 조회, 직렬화된 응답이 캐시에 있으면 그대로 응답
+     * Accept에 따라 JSON, CBOR, Smile로 응답
      *
      * @param page 페이지 번호
-     * @return 해당 페이지의 글들 리턴
      */
     @GetMapping("/{page}")
-    public List<PostSummary> getPage(@PathVariable(name = "page", required = false) Integer page) {
-        return postService.getList(page);
+    public void getPage(@PathVariable(name = "page", required = false) Integer page,
+                        ServletWebRequest webRequest, HttpServletResponse response)
+            throws IOException, HttpMediaTypeNotAcceptableException {
+        writePage(page, webRequest, response);
+    }
+
+    /**
+     * 커서 기반 글 목록 조회
+     * 페이지 번호 대신 이전 응답의 nextCursor를 넘겨 다음 글들을 조회
+     *
+     * @param cursor 이전 응답의 nextCursor, 생략하면 최신 글부터 조회
+     * @return 해당 커서 이후의 글들과 다음 커서
+     */
+    @GetMapping("/cursor")
+    public PostCursorPage getCursorPage(@RequestParam(name = "cursor", required = false) String cursor) {
+        return postService.getListByCursor(cursor);
+    }
+
+    /**
+     * 작성자의 글 목록 조회, 최신 글부터 커서 기반으로 조회
+     *
+     * @param username 작성자
+     * @param cursor   이전 응답의 nextCursor, 생략하면 최신 글부터 조회
+     * @return 해당 작성자의 글들과 다음 커서
+     */
+    @GetMapping("/by/{username}")
+    public PostCursorPage getListByUsername(@PathVariable(name = "username") String username,
+                                            @RequestParam(name = "cursor", required = false) String cursor) {
+        return postService.getListByUsername(username, cursor);
+    }
+
+    /**
+     * 제목과 내용 검색
+     *
+     * @param q    검색어
+     * @param page 페이지 번호, 생략하면 1페이지
+     * @return 검색어와 관련 높은 순으로 해당 페이지의 글들
+     */
+    @GetMapping("/search")
+    public List<PostSummary> search(@RequestParam(name = "q") String q,
+                                    @RequestParam(name = "page", defaultValue = "1") int page) {
+        return postService.search(q, Math.max(page, 1));
+    }
+
+    /**
+     * 제목 자동 완성
+     *
+     * @param prefix 입력 중인 제목 앞부분
+     * @return 제목이 prefix로 시작하는 최신 글들
+     */
+    @GetMapping("/suggest")
+    public List<PostSuggestion> suggest(@RequestParam(name = "prefix") String prefix) {
+        return postService.suggest(prefix);
     }
 
     /**
-     * 글 작성
+     * 전체 글 개수 조회
+     *
+     * @return Key: "count", Value: [전체 글 개수]
+     */
+    @GetMapping("/count")
+    public Map<String, Long> count() {
+        return Map.of("count", postService.count());
+    }
+
+    /**
+     * 전체 글 내보내기, 한 줄에 글 하나씩 JSON으로 응답(NDJSON)
+     * 응답 스트림에 바로 출력하므로 글 개수와 관계없이 메모리 사용량이 일정함
+     * 비동기 요청으로 처리하면 서블릿 컨테이너의 비동기 타임아웃(톰캣 기본 30초)에 큰 내보내기가 중간에 끊기므로,
+     * 요청 스레드에서 읽기 전용 트랜잭션 안에서 끝까지 출력
+     *
+     * @param response 전체 글을 id 오름차순으로 출력할 응답
+     */
+    @GetMapping(value = "/export", produces = APPLICATION_NDJSON_VALUE)
+    public void export(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        postService.export(response.getOutputStream());
+    }
+
+    /**
+     * 글 가져오기, 한 줄에 글 작성 요청 하나씩인 NDJSON을 읽으면서 일정 개수씩 저장
+     *
+     * @param in NDJSON 요청 본문
+     * @return 저장한 개수, 실패한 줄과 이유, 처리 속도
+     */
+    @PostMapping(value = "/import", consumes = APPLICATION_NDJSON_VALUE)
+    public PostImportResult importPosts(InputStream in) throws IOException {
+        return postService.importPosts(in);
+    }
+
+    /**
+     * 글 작성, 비밀번호 암호화가 끝나면 비동기로 응답
      * @param postWrite 글 작성 dto
      * @return Key: "id", Value: [작성한 글 id]
      */
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping("/post")
-    public Map<String, Long> write(@RequestBody PostWrite postWrite) {
-        Long postId = postService.write(postWrite);
-        return postService.idConvertToJson(postId);
+    public CompletableFuture<Map<String, Long>> write(@RequestBody PostWrite postWrite) {
+        return postService.writeAsync(postWrite)
+                          .thenApply(postService::idConvertToJson);
+    }
+
+    /**
+     * 글 여러개 작성
+     * @param postWrites 글 작성 dto들
+     * @return 요청 순서대로 Key: "id", Value: [작성한 글 id]
+     */
+    @ResponseStatus(HttpStatus.CREATED)
+    @PostMapping("/post/batch")
+    public CompletableFuture<List<Map<String, Long>>> writeAll(@RequestBody List<PostWrite> postWrites) {
+        return postService.writeAllAsync(postWrites)
+                          .thenApply(postIds -> postIds.stream()
+                                                       .map(postService::idConvertToJson)
+                                                       .toList());
     }
 
     /**
      * 글 수정
+     * If-Match가 있으면 해당 버전일 때만 수정하고 새 ETag를 응답, 다른 사용자가 먼저 수정했으면 412 응답
      *
+     * @param ifMatch  조회 응답의 ETag, 생략하거나 *이면 버전과 관계없이 수정
      * @param postEdit 글 수정 dto
      * @return Key: "id", Value: [수정한 글 id]
      */
     @PatchMapping("/post/{id}")
-    public Map<String, Long> edit(@PathVariable(name = "id") Long id, @RequestBody PostEdit postEdit) {
-        Long postId = postService.edit(id, postEdit);
-        return postService.idConvertToJson(postId);
+    public ResponseEntity<Map<String, Long>> edit(@PathVariable(name = "id") Long id,
+                                                  @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                  @RequestBody PostEdit postEdit) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            Long postId = postService.edit(id, postEdit);
+            return ResponseEntity.ok(postService.idConvertToJson(postId));
+        }
+        Long expectedVersion = eTagGenerator.parseVersion(id, ifMatch);
+        Long postId = postService.edit(id, postEdit, expectedVersion);
+        return ResponseEntity.ok()
+                             .eTag(eTagGenerator.of(postId, expectedVersion + 1))
+                             .body(postService.idConvertToJson(postId));
     }
 
     /**
@@ -87,13 +240,30 @@ public class PostController {
 
 
     /**
-     * 비밀번호 확인
+     * 비밀번호 확인, 비밀번호 비교가 끝나면 비동기로 응답
      * @param id          확인할 글 id
      * @param rawPassword 입력한 비밀번호
      */
     @ResponseStatus(HttpStatus.OK)
     @PostMapping("/post/check/{id}")
-    public void check(@PathVariable(name = "id") Long id, @RequestBody String rawPassword) {
-        postService.checkPassword(id, rawPassword);
+    public CompletableFuture<Void> check(@PathVariable(name = "id") Long id, @RequestBody String rawPassword) {
+        return postService.checkPasswordAsync(id, rawPassword);
+    }
+
+    /**
+     * If-None-Match가 목록의 ETag와 같으면 본문 없이 304 응답
+     */
+    private void writePage(int page, ServletWebRequest webRequest, HttpServletResponse response)
+            throws IOException, HttpMediaTypeNotAcceptableException {
+        ResponseFormat format = ResponseFormat.negotiate(webRequest.getHeader(HttpHeaders.ACCEPT));
+        SerializedResponse cached = responseBytesCache.getPage(page, format, key -> {
+            List<PostSummary> postSummaries = postService.getList(key);
+            return serializedResponseWriter.serialize(postSummaries, eTagGenerator.of(postSummaries), format);
+        });
+        serializedResponseWriter.vary(response);
+        if (webRequest.checkNotModified(serializedResponseWriter.eTag(cached, webRequest.getRequest()))) {
+            return;
+        }
+        serializedResponseWriter.write(cached, webRequest.getRequest(), response);
     }
 }
@@ -0,0 +1,41 @@
+package com.posts.controller;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메시지 컨버터로 응답하는 api는 Accept에 따라 JSON, CBOR, Smile 중 하나로 응답하므로 Vary에 Accept를 추가
+ * 공유 캐시가 같은 url의 CBOR 응답을 JSON을 요청한 클라이언트에게 주지 않도록 함
+ */
+@ControllerAdvice
+public class VaryAcceptAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        HttpHeaders headers = response.getHeaders();
+        List<String> vary = headers.getVary();
+        if (!vary.contains(HttpHeaders.ACCEPT)) {
+            List<String> next = new ArrayList<>(vary);
+            next.add(HttpHeaders.ACCEPT);
+            headers.setVary(next);
+        }
+        return body;
+    }
+}
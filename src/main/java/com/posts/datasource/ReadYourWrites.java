@@ -0,0 +1,32 @@
+package com.posts.datasource;
+
+/**
+ * 현재 스레드의 읽기 전용 트랜잭션도 primary에서 조회하도록 고정
+ * 방금 쓴 사용자가 아직 replica에 반영되지 않은 자기 글을 못 보는 일이 없도록 ReadYourWritesFilter가 요청 동안 고정
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    /**
+     * @return 이전 고정 여부, 끝나면 restore로 되돌림
+     */
+    public static boolean pin() {
+        boolean previous = isPinned();
+        PINNED.set(Boolean.TRUE);
+        return previous;
+    }
+
+    public static void restore(boolean previous) {
+        if (!previous) {
+            PINNED.remove();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.posts.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 작성, 수정, 삭제 요청에 쿠키를 붙여서 일정 시간 동안 그 사용자의 조회를 primary로 보냄
+ * replica 반영이 늦어도 작성자는 방금 쓴 내용을 바로 조회하고, 다른 사용자의 조회는 계속 replica로 감
+ * 응답 본문을 쓰기 전에 쿠키를 붙여야 하므로 요청을 처리하기 전에 붙이고, 실패한 요청도 잠깐 primary에서 조회될 뿐 결과는 같음
+ */
+@ConditionalOnProperty(name = "post.datasource.routing.enabled", havingValue = "true")
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE = "post-primary";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final int windowSeconds;
+
+    public ReadYourWritesFilter(@Value("${post.datasource.read-your-writes-seconds}") int windowSeconds) {
+        this.windowSeconds = windowSeconds;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+        if (write) {
+            Cookie cookie = new Cookie(COOKIE, "1");
+            cookie.setPath("/");
+            cookie.setMaxAge(windowSeconds);
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+        }
+        if (!write && WebUtils.getCookie(request, COOKIE) == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        boolean previous = ReadYourWrites.pin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.restore(previous);
+        }
+    }
+}
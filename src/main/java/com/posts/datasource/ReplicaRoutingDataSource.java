@@ -0,0 +1,136 @@
+package com.posts.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 읽기 전용 트랜잭션은 replica들에 돌아가면서, 나머지는 primary로 보내는 DataSource
+ * 트랜잭션이 시작된 뒤에 커넥션을 얻어야 읽기 전용 여부를 알 수 있으므로 LazyConnectionDataSourceProxy로 감싸서 사용
+ * <p>
+ * 다음 경우에는 읽기 전용이어도 primary로 보냄
+ * - 애플리케이션 시작이 끝나기 전, 검색 색인 등 시작할 때 만드는 데이터가 replica 지연으로 최근 글을 빠뜨리지 않도록
+ * - ReadYourWrites로 고정된 스레드, 방금 쓴 사용자의 조회
+ * - 모든 replica에 연결할 수 없을 때, 연결에 실패한 replica는 일정 시간 건너뜀
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final int PRIMARY = -1;
+
+    // 연결에 실패한 replica를 다시 시도하기까지의 시간
+    private static final long RETRY_MILLIS = 5_000;
+
+    private final DataSource primary;
+
+    private final List<DataSource> replicas;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final AtomicLongArray downUntil;
+
+    private volatile boolean routing;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.downUntil = new AtomicLongArray(replicas.size());
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); ++i) {
+            targets.put(i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRouting() {
+        routing = true;
+        log.info("읽기 전용 트랜잭션을 replica {}개로 분산", replicas.size());
+    }
+
+    /**
+     * @return 사용할 replica 번호, 건너뛰지 않는 replica 중 돌아가면서 선택, primary로 보낼 때는 PRIMARY
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!routing || replicas.isEmpty() || ReadYourWrites.isPinned()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < replicas.size(); ++i) {
+            int replica = (start + i) % replicas.size();
+            if (downUntil.get(replica) <= now) {
+                return replica;
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * replica 커넥션을 얻지 못하면 그 replica를 건너뛰도록 표시하고 다시 선택, 모두 실패하면 primary 커넥션을 리턴
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    /**
+     * 사용자를 지정해도 getConnection()과 같이 실패한 replica를 건너뛰고 primary로 넘어감
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection connect(Connector connector) throws SQLException {
+        while (true) {
+            int key = (int) determineCurrentLookupKey();
+            if (key == PRIMARY) {
+                return connector.connect(primary);
+            }
+            try {
+                return connector.connect(replicas.get(key));
+            } catch (SQLException e) {
+                downUntil.set(key, System.currentTimeMillis() + RETRY_MILLIS);
+                log.warn("replica {} 연결 실패, {}ms 동안 건너뜀: {}", key, RETRY_MILLIS, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        close(primary);
+        for (DataSource replica : replicas) {
+            close(replica);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Connector {
+
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+
+    private static void close(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.posts.domain;
+
+import com.posts.util.ContentCodec;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * 게시글 내용을 ContentCodec으로 압축해서 저장
+ * 내용은 PostContent에만 있으므로 압축 해제는 내용을 실제로 읽는 글 단건 조회에서만 일어남
+ * 하이버네이트가 스프링 빈 컨테이너를 통해 생성하므로 설정값을 주입받을 수 있음
+ */
+@Converter
+public class ContentConverter implements AttributeConverter<String, byte[]> {
+
+    private final ContentCodec contentCodec;
+
+    public ContentConverter(@Value("${post.content.compression-threshold}") int threshold) {
+        this.contentCodec = new ContentCodec(threshold);
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(String content) {
+        return content == null ? null : contentCodec.encode(content);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] encoded) {
+        return encoded == null ? null : contentCodec.decode(encoded);
+    }
+}
@@ -6,13 +6,26 @@ import lombok.*;
 @ToString
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(PostEntityListener.class)
+@Table(indexes = @Index(name = "idx_post_username_id", columnList = "username, id"))
 @Entity
 public class Post {
 
+    /**
+     * 시퀀스를 allocationSize만큼 한 번에 할당받는 pooled 방식
+     * IDENTITY와 달리 insert 전에 id를 알 수 있어 여러 insert를 JDBC 배치로 묶을 수 있음
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq_generator")
+    @SequenceGenerator(name = "post_seq_generator", sequenceName = "post_seq", allocationSize = 50)
     private Long id;
 
+    /**
+     * 제목이나 내용이 수정될 때마다 증가, ETag 생성에 사용
+     */
+    @Version
+    private Long version;
+
     @Column(nullable = false)
     private String username;
 
@@ -22,16 +35,24 @@ public class Post {
     @Column(nullable = false)
     private String title;
 
-    @Lob
-    @Column(nullable = false)
-    private String content;
+    /**
+     * 내용은 PostContent에 따로 저장하고 getContent로 처음 읽을 때 조회
+     */
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    @OneToOne(mappedBy = "post", fetch = FetchType.LAZY, optional = false, cascade = CascadeType.ALL)
+    private PostContent postContent;
 
     @Builder
     public Post(String username, String password, String title, String content) {
         this.username = username;
         this.password = password;
         this.title = title;
-        this.content = content;
+        this.postContent = new PostContent(this, content);
+    }
+
+    public String getContent() {
+        return postContent.getContent();
     }
 
     public void updateTitle(String title) {
@@ -39,6 +60,6 @@ public class Post {
     }
 
     public void updateContent(String content) {
-        this.content = content;
+        postContent.updateContent(content);
     }
 }
@@ -0,0 +1,41 @@
+package com.posts.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * 게시글 내용, 글 번호를 기본 키로 공유하는 별도 테이블에 저장
+ * 목록 조회, 비밀번호 확인, 삭제처럼 내용이 필요 없는 경로는 post 테이블만 읽음
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class PostContent {
+
+    @Id
+    private Long id;
+
+    // 글이 삭제되면 DB에서 함께 삭제되므로 삭제는 post 테이블에 delete 한 번으로 처리
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "post_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Post post;
+
+    // 일정 크기 이상이면 압축해서 저장
+    @Lob
+    @Convert(converter = ContentConverter.class)
+    @Column(nullable = false)
+    private String content;
+
+    PostContent(Post post, String content) {
+        this.post = post;
+        this.content = content;
+    }
+
+    void updateContent(String content) {
+        this.content = content;
+    }
+}
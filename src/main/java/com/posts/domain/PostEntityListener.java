@@ -0,0 +1,33 @@
+package com.posts.domain;
+
+import com.posts.event.PostChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Post 엔티티의 변경을 PostChangedEvent로 발행
+ * 하이버네이트가 스프링 빈 컨테이너를 통해 생성하므로 의존성을 주입받을 수 있음
+ */
+@RequiredArgsConstructor
+public class PostEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void created(Post post) {
+        eventPublisher.publishEvent(PostChangedEvent.created(post.getId(), post.getUsername(), post.getTitle(), post.getContent()));
+    }
+
+    @PostUpdate
+    public void updated(Post post) {
+        eventPublisher.publishEvent(PostChangedEvent.updated(post.getId(), post.getUsername(), post.getTitle(), post.getContent()));
+    }
+
+    @PostRemove
+    public void deleted(Post post) {
+        eventPublisher.publishEvent(PostChangedEvent.deleted(post.getId()));
+    }
+}
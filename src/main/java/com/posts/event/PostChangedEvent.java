@@ -0,0 +1,43 @@
+package com.posts.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 게시글이 작성, 수정, 삭제되었을 때 발행되는 이벤트
+ * 메모리에 보관하는 집계나 캐시가 DB 변경을 따라가도록 커밋 이후에 전달받음
+ */
+@ToString
+@Getter
+public class PostChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Long id;
+    private final String username;
+    private final String title;
+    private final String content;
+
+    private PostChangedEvent(Type type, Long id, String username, String title, String content) {
+        this.type = type;
+        this.id = id;
+        this.username = username;
+        this.title = title;
+        this.content = content;
+    }
+
+    public static PostChangedEvent created(Long id, String username, String title, String content) {
+        return new PostChangedEvent(Type.CREATED, id, username, title, content);
+    }
+
+    public static PostChangedEvent updated(Long id, String username, String title, String content) {
+        return new PostChangedEvent(Type.UPDATED, id, username, title, content);
+    }
+
+    public static PostChangedEvent deleted(Long id) {
+        return new PostChangedEvent(Type.DELETED, id, null, null, null);
+    }
+}
@@ -0,0 +1,13 @@
+package com.posts.exception;
+
+/**
+ * 한 번에 작성할 수 있는 글 개수를 넘었을 때 발생하는 예외
+ */
+public class BatchSizeExceededException extends RuntimeException {
+
+    private static final String MESSAGE = "한 번에 작성할 수 있는 글 개수를 초과했습니다.";
+
+    public BatchSizeExceededException() {
+        super(MESSAGE);
+    }
+}
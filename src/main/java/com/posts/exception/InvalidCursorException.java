@@ -0,0 +1,13 @@
+package com.posts.exception;
+
+/**
+ * 페이지 커서를 해석할 수 없을 때 발생하는 예외
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    private static final String MESSAGE = "잘못된 페이지 커서입니다.";
+
+    public InvalidCursorException() {
+        super(MESSAGE);
+    }
+}
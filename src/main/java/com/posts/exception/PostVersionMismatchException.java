@@ -0,0 +1,13 @@
+package com.posts.exception;
+
+/**
+ * 수정 요청의 If-Match 버전이 현재 글의 버전과 다를 때 발생하는 예외
+ */
+public class PostVersionMismatchException extends RuntimeException {
+
+    private static final String MESSAGE = "다른 사용자가 먼저 글을 수정했습니다.";
+
+    public PostVersionMismatchException() {
+        super(MESSAGE);
+    }
+}
@@ -0,0 +1,19 @@
+package com.posts.repository;
+
+import com.posts.domain.PostContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PostContentRepository extends JpaRepository<PostContent, Long> {
+
+    /**
+     * 엔티티를 조회하지 않고 update 한 번으로 내용 수정
+     *
+     * @return 수정된 행 수, 해당 id의 글이 없으면 0
+     */
+    @Modifying
+    @Query("update PostContent c set c.content = :content where c.id = :id")
+    int updateContent(@Param("id") Long id, @Param("content") String content);
+}
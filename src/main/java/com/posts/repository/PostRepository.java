@@ -2,8 +2,125 @@ package com.posts.repository;
 
 
 import com.posts.domain.Post;
+import com.posts.response.PostDetail;
+import com.posts.response.PostExport;
+import com.posts.response.PostSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 
 public interface PostRepository extends JpaRepository<Post, Long> {
+
+    /**
+     * 글 단건 조회에 필요한 컬럼만 내용 테이블과 조인해서 한 번에 조회, 비밀번호 컬럼은 읽지 않음
+     *
+     * @param id 조회할 글 id
+     */
+    @Query("select new com.posts.response.PostDetail(p.id, p.username, p.title, c.content, p.version) from PostContent c join c.post p where c.id = :id")
+    Optional<PostDetail> findDetail(@Param("id") Long id);
+
+    /**
+     * 내용을 읽지 않고 버전만 조회, 변경 여부 확인에 사용
+     *
+     * @param id 조회할 글 id
+     */
+    @Query("select p.version from Post p where p.id = :id")
+    Optional<Long> findVersion(@Param("id") Long id);
+
+    /**
+     * 목록에 필요한 id, 작성자, 제목만 조회, 내용과 비밀번호 컬럼은 읽지 않음
+     * 전체 개수가 필요 없으므로 count 쿼리 없이 Slice로 조회
+     *
+     * @param pageable 조회할 페이지
+     */
+    @Query("select new com.posts.response.PostSummary(p.id, p.username, p.title) from Post p order by p.id desc")
+    Slice<PostSummary> findSummaries(Pageable pageable);
+
+    /**
+     * id가 lastId보다 작은 글을 id 내림차순으로 조회, 앞 페이지를 건너뛰지 않고 인덱스에서 바로 시작
+     *
+     * @param lastId   이전 페이지의 마지막 글 id
+     * @param pageable 조회할 개수
+     */
+    @Query("select new com.posts.response.PostSummary(p.id, p.username, p.title) from Post p where p.id < :lastId order by p.id desc")
+    List<PostSummary> findSummariesBefore(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 작성자의 글 중 id가 lastId보다 작은 글을 id 내림차순으로 조회
+     * (username, id) 인덱스에서 해당 작성자 범위만 읽음
+     *
+     * @param username 작성자
+     * @param lastId   이전 페이지의 마지막 글 id
+     * @param pageable 조회할 개수
+     */
+    @Query("select new com.posts.response.PostSummary(p.id, p.username, p.title) from Post p where p.username = :username and p.id < :lastId order by p.id desc")
+    List<PostSummary> findSummariesByUsernameBefore(@Param("username") String username, @Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 여러 id의 글을 목록 형태로 조회, 순서는 보장하지 않음
+     *
+     * @param ids 조회할 글 id들
+     */
+    @Query("select new com.posts.response.PostSummary(p.id, p.username, p.title) from Post p where p.id in :ids")
+    List<PostSummary> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 전체 글을 id 오름차순으로 한 줄씩 읽는 스트림, 엔티티가 아닌 dto로 읽으므로 영속성 컨텍스트에 쌓이지 않음
+     * 트랜잭션 안에서 사용하고 다 읽으면 닫아야 함
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.posts.response.PostExport(p.id, p.username, p.title, c.content) from PostContent c join c.post p order by p.id")
+    Stream<PostExport> streamExport();
+
+    /**
+     * 전체 글의 id, 작성자, 제목을 한 줄씩 읽는 스트림, 트랜잭션 안에서 사용하고 다 읽으면 닫아야 함
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.posts.response.PostSummary(p.id, p.username, p.title) from Post p order by p.id")
+    Stream<PostSummary> streamSummaries();
+
+    /**
+     * 엔티티를 조회하지 않고 update 한 번으로 제목 수정, 버전도 함께 증가
+     *
+     * @return 수정된 행 수, 해당 id의 글이 없으면 0
+     */
+    @Modifying
+    @Query("update Post p set p.title = :title, p.version = p.version + 1 where p.id = :id")
+    int updateTitle(@Param("id") Long id, @Param("title") String title);
+
+    /**
+     * 버전이 같을 때만 제목을 수정하고 버전을 증가, 버전 확인과 수정을 update 한 번으로 처리
+     *
+     * @return 수정된 행 수, 해당 id의 글이 없거나 버전이 다르면 0
+     */
+    @Modifying
+    @Query("update Post p set p.title = :title, p.version = p.version + 1 where p.id = :id and p.version = :version")
+    int updateTitleIfVersion(@Param("id") Long id, @Param("title") String title, @Param("version") Long version);
+
+    /**
+     * 엔티티를 조회하지 않고 delete 한 번으로 삭제, 내용은 외래 키의 on delete cascade로 함께 삭제
+     *
+     * @return 삭제된 행 수, 해당 id의 글이 없으면 0
+     */
+    @Modifying
+    @Query("delete from Post p where p.id = :id")
+    int deletePostById(@Param("id") Long id);
 }
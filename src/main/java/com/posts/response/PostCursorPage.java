@@ -0,0 +1,25 @@
+package com.posts.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 조회 dto
+ */
+@ToString
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonPropertyOrder({"posts", "nextCursor"})
+public class PostCursorPage {
+
+    private List<PostSummary> posts;
+    private String nextCursor;
+
+    @Builder
+    public PostCursorPage(List<PostSummary> posts, String nextCursor) {
+        this.posts = posts;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -1,5 +1,7 @@
 package com.posts.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.*;
 
 /**
@@ -8,6 +10,7 @@ import lombok.*;
 @ToString
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonPropertyOrder({"id", "username", "title", "content"})
 public class PostDetail {
 
     private Long id;
@@ -15,11 +18,16 @@ public class PostDetail {
     private String title;
     private String content;
 
+    // ETag 생성용, 응답 본문에는 포함하지 않음
+    @JsonIgnore
+    private Long version;
+
     @Builder
-    public PostDetail(Long id, String username, String title, String content) {
+    public PostDetail(Long id, String username, String title, String content, Long version) {
         this.id = id;
         this.username = username;
         this.title = title;
         this.content = content;
+        this.version = version;
     }
 }
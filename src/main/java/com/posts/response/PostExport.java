@@ -0,0 +1,27 @@
+package com.posts.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.*;
+
+/**
+ * 전체 글 내보내기 한 줄 dto, 비밀번호는 포함하지 않음
+ */
+@ToString
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonPropertyOrder({"id", "username", "title", "content"})
+public class PostExport {
+
+    private Long id;
+    private String username;
+    private String title;
+    private String content;
+
+    @Builder
+    public PostExport(Long id, String username, String title, String content) {
+        this.id = id;
+        this.username = username;
+        this.title = title;
+        this.content = content;
+    }
+}
@@ -0,0 +1,49 @@
+package com.posts.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 글 가져오기 결과 dto
+ */
+@ToString
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonPropertyOrder({"imported", "failed", "elapsedMillis", "postsPerSecond", "errors"})
+public class PostImportResult {
+
+    private long imported;
+    private long failed;
+    private long elapsedMillis;
+    private double postsPerSecond;
+    private List<Error> errors;
+
+    @Builder
+    public PostImportResult(long imported, long failed, long elapsedMillis, double postsPerSecond, List<Error> errors) {
+        this.imported = imported;
+        this.failed = failed;
+        this.elapsedMillis = elapsedMillis;
+        this.postsPerSecond = postsPerSecond;
+        this.errors = errors;
+    }
+
+    /**
+     * 가져오지 못한 줄
+     */
+    @ToString
+    @Getter
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @JsonPropertyOrder({"line", "message"})
+    public static class Error {
+
+        private long line;
+        private String message;
+
+        public Error(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.posts.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.*;
+
+/**
+ * 제목 자동 완성 dto
+ */
+@ToString
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonPropertyOrder({"id", "title"})
+public class PostSuggestion {
+
+    private Long id;
+    private String title;
+
+    @Builder
+    public PostSuggestion(Long id, String title) {
+        this.id = id;
+        this.title = title;
+    }
+}
@@ -1,10 +1,12 @@
 package com.posts.response;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.*;
 
 @ToString
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@JsonPropertyOrder({"id", "username", "title"})
 public class PostSummary {
 
     private Long id;
@@ -0,0 +1,36 @@
+package com.posts.response;
+
+import com.posts.util.ResponseFormat;
+import lombok.Getter;
+
+/**
+ * 직렬화가 끝난 응답 본문, 형식과 본문, 미리 압축한 gzip, ETag
+ * ETag는 형식, 압축과 관계없는 값으로 보관하고 응답할 때 SerializedResponseWriter가 접미사를 붙임
+ * 캐시에 보관하고 그대로 응답 스트림에 쓰므로 생성 후에는 바꾸지 않음
+ */
+@Getter
+public class SerializedResponse {
+
+    private final ResponseFormat format;
+
+    private final byte[] body;
+
+    // 압축해도 작아지지 않으면 null
+    private final byte[] gzip;
+
+    private final String eTag;
+
+    public SerializedResponse(ResponseFormat format, byte[] body, byte[] gzip, String eTag) {
+        this.format = format;
+        this.body = body;
+        this.gzip = gzip;
+        this.eTag = eTag;
+    }
+
+    /**
+     * @return 캐시 용량 계산용 크기
+     */
+    public int sizeInBytes() {
+        return body.length + (gzip == null ? 0 : gzip.length) + eTag.length();
+    }
+}
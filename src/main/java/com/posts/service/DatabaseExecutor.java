@@ -0,0 +1,38 @@
+package com.posts.service;
+
+import com.posts.timing.RequestTimings;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 비밀번호 암호화가 끝난 비동기 요청의 저장을 PasswordHasher 스레드 풀과 분리해서 실행
+ * 해싱 스레드는 해싱만 하므로 저장이 커넥션과 insert를 기다려도 다른 요청의 해싱이 밀리지 않음
+ * 작업은 해싱이 끝난 요청에서만 들어오고 해싱 대기열이 제한되어 있으므로 이 대기열은 제한하지 않음
+ * 커넥션 풀보다 스레드가 많으면 커넥션을 기다릴 뿐이므로 커넥션 풀 크기 정도로 설정
+ */
+@Component
+public class DatabaseExecutor {
+
+    private final ExecutorService executor;
+
+    public DatabaseExecutor(@Value("${post.database.threads}") int threads) {
+        this.executor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("post-database-"));
+    }
+
+    /**
+     * 요청의 RequestTimings를 바인딩해서 실행, CompletableFuture의 Executor로 this::execute를 넘겨서 사용
+     */
+    public void execute(Runnable task) {
+        executor.execute(RequestTimings.wrap(task));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,107 @@
+package com.posts.service;
+
+import com.posts.timing.RequestTimings;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt 암호화, 비교를 요청 스레드가 아닌 전용 스레드 풀에서 실행
+ * 작성이 몰려도 요청 스레드가 해싱에 묶이지 않아 조회 요청이 밀리지 않음
+ * CPU 작업이므로 코어 수만큼의 스레드만 사용하고, 대기열이 가득 차면 RejectedExecutionException으로 거절
+ * 요청의 RequestTimings를 작업 스레드로 넘기므로 해싱 시간과 이어서 실행되는 저장 쿼리도 요청에 기록됨
+ */
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final ExecutorService executor;
+
+    private final int threads;
+
+    @Autowired
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Value("${post.password-hash.queue-capacity}") int queueCapacity) {
+        this(passwordEncoder, Runtime.getRuntime().availableProcessors(), queueCapacity, "password-hash-");
+    }
+
+    /**
+     * 요청과 스레드 풀을 나눠 써야 하는 작업(글 가져오기 등)을 위한 별도 해싱 스레드 풀 생성
+     *
+     * @param threads          스레드 수
+     * @param queueCapacity    대기열 크기
+     * @param threadNamePrefix 스레드 이름 접두사
+     */
+    public PasswordHasher(PasswordEncoder passwordEncoder, int threads, int queueCapacity, String threadNamePrefix) {
+        this.passwordEncoder = passwordEncoder;
+        this.threads = threads;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                                               new ArrayBlockingQueue<>(queueCapacity),
+                                               new CustomizableThreadFactory(threadNamePrefix));
+    }
+
+    /**
+     * @param rawPassword 입력한 비밀번호
+     * @return 암호화된 비밀번호
+     * @throws java.util.concurrent.RejectedExecutionException 대기열이 가득 차면 예외 발생
+     */
+    public CompletableFuture<String> encode(String rawPassword) {
+        return CompletableFuture.supplyAsync(() -> RequestTimings.timeHashing(() -> passwordEncoder.encode(rawPassword)), this::execute);
+    }
+
+    /**
+     * 여러 비밀번호를 스레드 수만큼 나눠서 암호화, 개수와 관계없이 대기열은 스레드 수만큼만 사용
+     *
+     * @param rawPasswords 입력한 비밀번호들
+     * @return 같은 순서로 암호화된 비밀번호들
+     * @throws java.util.concurrent.RejectedExecutionException 대기열이 가득 차면 예외 발생
+     */
+    public CompletableFuture<List<String>> encodeAll(List<String> rawPasswords) {
+        int chunkSize = Math.max(1, (rawPasswords.size() + threads - 1) / threads);
+        List<CompletableFuture<List<String>>> chunks = new ArrayList<>();
+        for (int from = 0; from < rawPasswords.size(); from += chunkSize) {
+            List<String> chunk = rawPasswords.subList(from, Math.min(from + chunkSize, rawPasswords.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> RequestTimings.timeHashing(() -> chunk.stream()
+                                                                                                 .map(passwordEncoder::encode)
+                                                                                                 .toList()), this::execute));
+        }
+        return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+                                .thenApply(ignored -> chunks.stream()
+                                                            .flatMap(chunk -> chunk.join().stream())
+                                                            .toList());
+    }
+
+    /**
+     * @param rawPassword     입력한 비밀번호
+     * @param encodedPassword 저장된 비밀번호
+     * @return 일치하면 true
+     * @throws java.util.concurrent.RejectedExecutionException 대기열이 가득 차면 예외 발생
+     */
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return CompletableFuture.supplyAsync(() -> RequestTimings.timeHashing(() -> passwordEncoder.matches(rawPassword, encodedPassword)), this::execute);
+    }
+
+    /**
+     * 작업과 이어서 실행되는 thenApply 등의 콜백까지 요청의 RequestTimings를 바인딩해서 실행
+     */
+    private void execute(Runnable task) {
+        executor.execute(RequestTimings.wrap(task));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,73 @@
+package com.posts.service;
+
+import com.posts.datasource.ReadYourWrites;
+import com.posts.event.PostChangedEvent;
+import com.posts.repository.PostRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 게시글 수를 메모리에 유지
+ * 작성, 삭제가 커밋될 때마다 갱신하고 주기적으로 DB의 count와 맞춰서 목록 조회마다 count 쿼리를 실행하지 않음
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostCounter {
+
+    private final PostRepository postRepository;
+
+    private final AtomicLong count = new AtomicLong();
+
+    // count 쿼리 도중 변경이 있었는지 확인하기 위한 변경 횟수
+    private final AtomicLong changes = new AtomicLong();
+
+    public long get() {
+        return count.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> {
+                changes.incrementAndGet();
+                count.incrementAndGet();
+            }
+            case DELETED -> {
+                changes.incrementAndGet();
+                count.decrementAndGet();
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * DB의 게시글 수로 보정, count 쿼리 도중 작성이나 삭제가 있었다면 다음 주기로 미룸
+     * 지연된 replica의 값으로 덮어쓰지 않도록 count 쿼리는 primary에서 실행
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${post.count.reconcile-interval}", initialDelayString = "${post.count.reconcile-interval}")
+    public void reconcile() {
+        long before = changes.get();
+        long actual;
+        boolean previousPin = ReadYourWrites.pin();
+        try {
+            actual = postRepository.count();
+        } finally {
+            ReadYourWrites.restore(previousPin);
+        }
+        if (changes.get() == before) {
+            long previous = count.getAndSet(actual);
+            if (previous != actual) {
+                log.info("게시글 수 보정 {} -> {}", previous, actual);
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.posts.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.posts.event.PostChangedEvent;
+import com.posts.response.PostDetail;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Function;
+
+/**
+ * 글 단건 조회 결과 캐시
+ * 글마다 내용 길이가 크게 다르므로 개수가 아닌 전체 바이트 크기로 용량을 제한하고 W-TinyLFU로 제거
+ * 적중, 미적중, 제거 횟수는 /actuator/metrics의 cache.* 지표(cache=postDetail)로 확인
+ */
+@Component
+public class PostDetailCache {
+
+    private static final String NAME = "postDetail";
+
+    // 객체 헤더와 필드 참조 등 문자열 외 대략적인 고정 크기
+    private static final int ENTRY_OVERHEAD = 128;
+
+    private final Cache<Long, PostDetail> cache;
+
+    public PostDetailCache(@Value("${post.cache.detail.max-bytes}") long maxBytes, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                             .maximumWeight(maxBytes)
+                             .weigher((Long id, PostDetail postDetail) -> weigh(postDetail))
+                             .recordStats()
+                             .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+    }
+
+    /**
+     * @param id     조회할 글 id
+     * @param loader 캐시에 없을 때 조회할 함수, 예외가 발생하면 캐시하지 않음
+     */
+    public PostDetail get(Long id, Function<Long, PostDetail> loader) {
+        return cache.get(id, loader);
+    }
+
+    /**
+     * @return 캐시에 없으면 null, 조회하지 않음
+     */
+    public PostDetail getIfPresent(Long id) {
+        return cache.getIfPresent(id);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 비동기로 처리되는 제거 작업을 바로 실행
+     */
+    void cleanUp() {
+        cache.cleanUp();
+    }
+
+    /**
+     * 수정, 삭제된 글만 제거, 진행 중인 조회가 있으면 끝날 때까지 기다렸다가 제거하므로 이전 내용이 남지 않음
+     */
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() != PostChangedEvent.Type.CREATED) {
+            cache.invalidate(event.getId());
+        }
+    }
+
+    private static int weigh(PostDetail postDetail) {
+        long chars = length(postDetail.getUsername()) + length(postDetail.getTitle()) + length(postDetail.getContent());
+        // String은 문자 하나에 최대 2바이트
+        return (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD + chars * 2);
+    }
+
+    private static long length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
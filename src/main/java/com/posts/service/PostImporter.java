@@ -0,0 +1,216 @@
+package com.posts.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.posts.domain.Post;
+import com.posts.repository.PostRepository;
+import com.posts.request.PostWrite;
+import com.posts.response.PostImportResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * NDJSON으로 받은 글들을 일정 개수씩 나눠 저장
+ * 한 묶음의 비밀번호를 모든 코어에서 암호화하는 동안 이전 묶음을 하나의 트랜잭션으로 저장하고,
+ * 메모리에는 최대 두 묶음만 두므로 입력이 아무리 커도 읽는 속도가 저장 속도에 맞춰짐
+ * 암호화는 글 작성 요청과 나눠 쓰지 않도록 post.import.hash-threads개 스레드의 전용 풀에서 실행
+ */
+@Slf4j
+@Component
+public class PostImporter {
+
+    private final PostRepository postRepository;
+
+    private final PasswordHasher passwordHasher;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ObjectReader reader;
+
+    private final int batchSize;
+
+    private final int maxErrors;
+
+    @Autowired
+    public PostImporter(PostRepository postRepository,
+                        PasswordEncoder passwordEncoder,
+                        TransactionTemplate transactionTemplate,
+                        ObjectMapper objectMapper,
+                        @Value("${post.import.hash-threads}") int hashThreads,
+                        @Value("${post.import.batch-size}") int batchSize,
+                        @Value("${post.import.max-errors}") int maxErrors) {
+        // 한 번에 한 묶음만 암호화하므로 동시에 들어온 가져오기까지 고려해 스레드 수의 두 배만 대기
+        this(postRepository,
+             new PasswordHasher(passwordEncoder, hashThreads, hashThreads * 2, "post-import-hash-"),
+             transactionTemplate, objectMapper, batchSize, maxErrors);
+    }
+
+    PostImporter(PostRepository postRepository,
+                 PasswordHasher passwordHasher,
+                 TransactionTemplate transactionTemplate,
+                 ObjectMapper objectMapper,
+                 int batchSize,
+                 int maxErrors) {
+        this.postRepository = postRepository;
+        this.passwordHasher = passwordHasher;
+        this.transactionTemplate = transactionTemplate;
+        this.reader = objectMapper.readerFor(PostWrite.class);
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        passwordHasher.shutdown();
+    }
+
+    /**
+     * @param in 한 줄에 글 작성 요청 하나씩인 NDJSON, 빈 줄은 무시
+     * @return 저장한 개수, 실패한 줄과 이유, 처리 속도
+     */
+    public PostImportResult importFrom(InputStream in) throws IOException {
+        long start = System.nanoTime();
+        Progress progress = new Progress();
+        Batch pending = null;
+
+        BufferedReader lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Batch batch = new Batch();
+        long lineNumber = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            ++lineNumber;
+            if (line.isBlank()) {
+                continue;
+            }
+            parse(line, lineNumber, batch, progress);
+            if (batch.size() == batchSize) {
+                // 이번 묶음을 암호화하는 동안 이전 묶음을 저장
+                batch.hash(passwordHasher);
+                persist(pending, progress);
+                pending = batch;
+                batch = new Batch();
+            }
+        }
+        batch.hash(passwordHasher);
+        persist(pending, progress);
+        persist(batch, progress);
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        PostImportResult result = PostImportResult.builder()
+                                                  .imported(progress.imported)
+                                                  .failed(progress.failed)
+                                                  .elapsedMillis(elapsedMillis)
+                                                  .postsPerSecond(progress.imported * 1_000.0 / Math.max(1, elapsedMillis))
+                                                  .errors(progress.errors)
+                                                  .build();
+        log.info("글 가져오기 imported={} failed={} elapsed={}ms", result.getImported(), result.getFailed(), elapsedMillis);
+        return result;
+    }
+
+    private void parse(String line, long lineNumber, Batch batch, Progress progress) {
+        PostWrite request;
+        try {
+            request = reader.readValue(line);
+        } catch (JsonProcessingException e) {
+            progress.fail(lineNumber, "JSON 형식이 올바르지 않습니다. " + e.getOriginalMessage(), maxErrors);
+            return;
+        }
+        if (request.getUsername() == null || request.getRawPassword() == null
+                || request.getTitle() == null || request.getContent() == null) {
+            progress.fail(lineNumber, "username, rawPassword, title, content는 필수입니다.", maxErrors);
+            return;
+        }
+        batch.add(lineNumber, request);
+    }
+
+    /**
+     * 암호화가 끝나기를 기다렸다가 하나의 트랜잭션으로 저장, 암호화나 저장에 실패하면 묶음 전체를 실패로 기록
+     */
+    private void persist(Batch batch, Progress progress) {
+        if (batch == null || batch.size() == 0) {
+            return;
+        }
+        try {
+            List<String> encodedPasswords = batch.encodedPasswords.join();
+            List<Post> posts = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); ++i) {
+                PostWrite request = batch.requests.get(i);
+                posts.add(Post.builder()
+                              .username(request.getUsername())
+                              .password(encodedPasswords.get(i))
+                              .title(request.getTitle())
+                              .content(request.getContent())
+                              .build());
+            }
+            transactionTemplate.executeWithoutResult(status -> postRepository.saveAll(posts));
+            progress.imported += posts.size();
+        } catch (RuntimeException e) {
+            log.warn("글 가져오기 묶음 저장 실패 lines={}~{}", batch.lineNumbers.get(0), batch.lineNumbers.get(batch.size() - 1), e);
+            String message = e.getCause() instanceof RejectedExecutionException
+                    ? "비밀번호 암호화 대기열이 가득 찼습니다."
+                    : "저장에 실패했습니다. " + e.getMessage();
+            for (Long lineNumber : batch.lineNumbers) {
+                progress.fail(lineNumber, message, maxErrors);
+            }
+        }
+    }
+
+    private static class Batch {
+
+        private final List<Long> lineNumbers = new ArrayList<>();
+        private final List<PostWrite> requests = new ArrayList<>();
+        private CompletableFuture<List<String>> encodedPasswords;
+
+        void add(long lineNumber, PostWrite request) {
+            lineNumbers.add(lineNumber);
+            requests.add(request);
+        }
+
+        int size() {
+            return requests.size();
+        }
+
+        /**
+         * 대기열이 가득 차서 거절되어도 예외를 던지지 않고 실패한 결과로 보관, 저장할 때 묶음 전체를 실패로 기록
+         */
+        void hash(PasswordHasher passwordHasher) {
+            try {
+                encodedPasswords = passwordHasher.encodeAll(requests.stream()
+                                                                    .map(PostWrite::getRawPassword)
+                                                                    .toList());
+            } catch (RejectedExecutionException e) {
+                encodedPasswords = CompletableFuture.failedFuture(e);
+            }
+        }
+    }
+
+    private static class Progress {
+
+        private long imported;
+        private long failed;
+        private final List<PostImportResult.Error> errors = new ArrayList<>();
+
+        void fail(long lineNumber, String message, int maxErrors) {
+            ++failed;
+            if (errors.size() < maxErrors) {
+                errors.add(new PostImportResult.Error(lineNumber, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.posts.service;
+
+import com.posts.event.PostChangedEvent;
+import com.posts.repository.PostRepository;
+import com.posts.response.PostSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 앞쪽 몇 페이지의 글 목록을 불변 리스트로 메모리에 보관
+ * 작성, 제목 수정, 삭제가 커밋되면 새 리스트를 만들어 한 번에 교체하므로 읽는 쪽은 잠금 없이 완성된 목록만 봄
+ */
+@Component
+public class PostPageSnapshot {
+
+    private final PostRepository postRepository;
+
+    private final int amountPerPage;
+
+    private final int pages;
+
+    private final int capacity;
+
+    // id 내림차순, null이면 다음 조회 때 DB에서 다시 만듦
+    private volatile List<PostSummary> snapshot;
+
+    // 다시 만드는 도중 변경이 있었는지 확인하기 위한 변경 횟수, this로 동기화
+    private long generation;
+
+    public PostPageSnapshot(PostRepository postRepository,
+                            @Value("${post.amount}") int amountPerPage,
+                            @Value("${post.snapshot.pages}") int pages) {
+        this.postRepository = postRepository;
+        this.amountPerPage = amountPerPage;
+        this.pages = pages;
+        this.capacity = amountPerPage * pages;
+    }
+
+    /**
+     * @param page 페이지 번호
+     * @return 해당 페이지를 메모리에서 리턴할 수 있으면 true
+     */
+    public boolean covers(int page) {
+        return page >= 1 && page <= pages;
+    }
+
+    /**
+     * @param page covers가 true인 페이지 번호
+     * @return 해당 페이지의 글들, 불변 리스트
+     */
+    public List<PostSummary> getPage(int page) {
+        List<PostSummary> current = snapshot;
+        if (current == null) {
+            current = rebuild();
+        }
+        int from = (page - 1) * amountPerPage;
+        if (from >= current.size()) {
+            return List.of();
+        }
+        return current.subList(from, Math.min(from + amountPerPage, current.size()));
+    }
+
+    @Order(0)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onPostChanged(PostChangedEvent event) {
+        generation++;
+        List<PostSummary> current = snapshot;
+        if (current == null) {
+            return;
+        }
+        switch (event.getType()) {
+            case CREATED -> snapshot = insert(current, event);
+            case UPDATED -> snapshot = updateTitle(current, event);
+            case DELETED -> snapshot = remove(current, event.getId());
+        }
+    }
+
+    private List<PostSummary> rebuild() {
+        long startGeneration;
+        synchronized (this) {
+            startGeneration = generation;
+        }
+        List<PostSummary> loaded = List.copyOf(postRepository.findSummaries(PageRequest.of(0, capacity))
+                                                             .getContent());
+        synchronized (this) {
+            // 조회 도중 반영된 변경이 있으면 이번 결과는 보관하지 않음
+            if (generation == startGeneration && snapshot == null) {
+                snapshot = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    private List<PostSummary> insert(List<PostSummary> current, PostChangedEvent event) {
+        List<PostSummary> next = new ArrayList<>(current.size() + 1);
+        PostSummary created = PostSummary.builder()
+                                         .id(event.getId())
+                                         .username(event.getUsername())
+                                         .title(event.getTitle())
+                                         .build();
+        boolean inserted = false;
+        for (PostSummary postSummary : current) {
+            if (!inserted && postSummary.getId() <= created.getId()) {
+                next.add(created);
+                inserted = true;
+            }
+            // 다시 만든 목록에 이미 들어있는 글이면 중복으로 넣지 않음
+            if (!postSummary.getId().equals(created.getId())) {
+                next.add(postSummary);
+            }
+        }
+        if (!inserted && current.size() < capacity) {
+            next.add(created);
+        }
+        return List.copyOf(next.size() > capacity ? next.subList(0, capacity) : next);
+    }
+
+    private List<PostSummary> updateTitle(List<PostSummary> current, PostChangedEvent event) {
+        int index = indexOf(current, event.getId());
+        if (index < 0 || Objects.equals(current.get(index).getTitle(), event.getTitle())) {
+            return current;
+        }
+        PostSummary before = current.get(index);
+        List<PostSummary> next = new ArrayList<>(current);
+        next.set(index, PostSummary.builder()
+                                   .id(before.getId())
+                                   .username(before.getUsername())
+                                   .title(event.getTitle())
+                                   .build());
+        return List.copyOf(next);
+    }
+
+    private List<PostSummary> remove(List<PostSummary> current, Long id) {
+        int index = indexOf(current, id);
+        if (index < 0) {
+            return current;
+        }
+        if (current.size() == capacity) {
+            // 뒤쪽에서 채워 넣을 글을 알 수 없으므로 다음 조회 때 다시 만듦
+            return null;
+        }
+        List<PostSummary> next = new ArrayList<>(current);
+        next.remove(index);
+        return List.copyOf(next);
+    }
+
+    private static int indexOf(List<PostSummary> current, Long id) {
+        for (int i = 0; i < current.size(); ++i) {
+            if (current.get(i).getId().equals(id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
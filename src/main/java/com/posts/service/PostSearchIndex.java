@@ -0,0 +1,309 @@
+package com.posts.service;
+
+import com.posts.event.PostChangedEvent;
+import com.posts.repository.PostRepository;
+import com.posts.response.PostExport;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 제목과 내용의 단어로 글 id를 찾는 역색인
+ * 단어마다 글 id 오름차순의 posting list를 id 차이와 가중치의 varint 바이트 배열로 압축해서 보관
+ * 시작할 때 전체 글로 만들고 이후에는 작성, 수정, 삭제가 커밋될 때마다 해당 글만 반영
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    // 제목에 나온 단어는 내용보다 높은 점수
+    private static final int TITLE_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    private final PostRepository postRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, Postings> index = new HashMap<>();
+
+    // 수정, 삭제할 때 기존 단어의 posting만 지우기 위한 글 id별 단어, 단어 문자열은 index의 키를 공유
+    private final Map<Long, String[]> documents = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public PostSearchIndex(PostRepository postRepository, PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * DB의 전체 글로 색인을 다시 만듦, 만드는 동안 변경 반영과 검색은 대기
+     */
+    @PostConstruct
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            index.clear();
+            documents.clear();
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<PostExport> posts = postRepository.streamExport()) {
+                    posts.forEach(post -> add(post.getId(), post.getTitle(), post.getContent()));
+                }
+            });
+            log.info("검색 색인 생성 글 {}개, 단어 {}개, posting {}바이트", documents.size(), index.size(),
+                     index.values().stream().mapToLong(Postings::sizeInBytes).sum());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.getId());
+            if (event.getType() != PostChangedEvent.Type.DELETED) {
+                add(event.getId(), event.getTitle(), event.getContent());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 단어가 하나라도 들어있는 글을 점수 내림차순, 같으면 최신 글 순으로 조회
+     * 점수는 단어마다 가중치 * log(1 + 전체 글 수 / 단어가 들어있는 글 수)의 합
+     *
+     * @param query  검색어
+     * @param offset 건너뛸 개수
+     * @param limit  조회할 개수
+     * @return 글 id들
+     */
+    public List<Long> search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty() || offset < 0 || limit <= 0) {
+            return List.of();
+        }
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int total = documents.size();
+            for (String term : terms) {
+                Postings postings = index.get(term);
+                if (postings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (double) total / postings.count);
+                postings.forEach((id, weight) -> scores.merge(id, weight * idf, Double::sum));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return scores.entrySet()
+                     .stream()
+                     .sorted(Map.Entry.<Long, Double>comparingByValue()
+                                      .reversed()
+                                      .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                     .skip(offset)
+                     .limit(limit)
+                     .map(Map.Entry::getKey)
+                     .toList();
+    }
+
+    /**
+     * @return 색인된 글 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 소문자로 바꾸고 글자, 숫자가 아닌 문자를 기준으로 나눔
+     * 형태소 분석은 하지 않으므로 한글은 띄어쓰기 단위로 색인됨
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); ++i) {
+            boolean letter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private void add(Long id, String title, String content) {
+        Map<String, Integer> weights = new HashMap<>();
+        tokenize(title).forEach(term -> weights.merge(term, TITLE_WEIGHT, Integer::sum));
+        tokenize(content).forEach(term -> weights.merge(term, CONTENT_WEIGHT, Integer::sum));
+        String[] terms = new String[weights.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            Postings postings = index.computeIfAbsent(entry.getKey(), Postings::new);
+            postings.add(id, entry.getValue());
+            // 같은 단어 문자열을 글마다 따로 보관하지 않도록 색인이 가진 문자열을 사용
+            terms[i++] = postings.term;
+        }
+        documents.put(id, terms);
+    }
+
+    private void remove(Long id) {
+        String[] terms = documents.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Postings postings = index.get(term);
+            if (postings != null && postings.remove(id) && postings.count == 0) {
+                index.remove(term);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface PostingConsumer {
+        void accept(long id, int weight);
+    }
+
+    /**
+     * 글 id 오름차순의 (이전 id와의 차이, 가중치) 쌍을 varint로 이어 붙인 posting list
+     * 새 글은 id가 가장 크므로 대부분 끝에 이어 붙이고, 중간 삽입과 삭제만 다시 인코딩
+     */
+    static class Postings {
+
+        private final String term;
+        private byte[] data = new byte[8];
+        private int length;
+        private int count;
+        private long lastId;
+
+        Postings(String term) {
+            this.term = term;
+        }
+
+        void add(long id, int weight) {
+            if (count == 0 || id > lastId) {
+                append(id - lastId, weight);
+                lastId = id;
+                ++count;
+                return;
+            }
+            Postings next = new Postings(term);
+            boolean added = false;
+            Iterator iterator = new Iterator();
+            while (iterator.next()) {
+                if (!added && id <= iterator.id) {
+                    next.add(id, weight);
+                    added = true;
+                }
+                if (iterator.id != id) {
+                    next.add(iterator.id, iterator.weight);
+                }
+            }
+            copyFrom(next);
+        }
+
+        boolean remove(long id) {
+            if (count == 0 || id > lastId) {
+                return false;
+            }
+            Postings next = new Postings(term);
+            Iterator iterator = new Iterator();
+            while (iterator.next()) {
+                if (iterator.id != id) {
+                    next.add(iterator.id, iterator.weight);
+                }
+            }
+            boolean removed = next.count != count;
+            copyFrom(next);
+            return removed;
+        }
+
+        void forEach(PostingConsumer consumer) {
+            Iterator iterator = new Iterator();
+            while (iterator.next()) {
+                consumer.accept(iterator.id, iterator.weight);
+            }
+        }
+
+        int count() {
+            return count;
+        }
+
+        int sizeInBytes() {
+            return length;
+        }
+
+        private void copyFrom(Postings other) {
+            data = other.data;
+            length = other.length;
+            count = other.count;
+            lastId = other.lastId;
+        }
+
+        private void append(long delta, int weight) {
+            if (length + 15 > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + 15));
+            }
+            writeVarint(delta);
+            writeVarint(weight);
+        }
+
+        private void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                data[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[length++] = (byte) value;
+        }
+
+        private class Iterator {
+
+            private int position;
+            private long id;
+            private int weight;
+
+            boolean next() {
+                if (position >= length) {
+                    return false;
+                }
+                id += readVarint();
+                weight = (int) readVarint();
+                return true;
+            }
+
+            private long readVarint() {
+                long value = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[position++];
+                    value |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                return value;
+            }
+        }
+    }
+}
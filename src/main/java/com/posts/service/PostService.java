@@ -1,27 +1,49 @@
 package com.posts.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.posts.domain.Post;
+import com.posts.event.PostChangedEvent;
+import com.posts.exception.BatchSizeExceededException;
 import com.posts.exception.IncorrectPasswordException;
 import com.posts.exception.NotFoundPostException;
+import com.posts.exception.PostVersionMismatchException;
+import com.posts.repository.PostContentRepository;
 import com.posts.repository.PostRepository;
 import com.posts.request.PostEdit;
 import com.posts.request.PostWrite;
+import com.posts.response.PostCursorPage;
 import com.posts.response.PostDetail;
+import com.posts.response.PostExport;
+import com.posts.response.PostImportResult;
+import com.posts.response.PostSuggestion;
 import com.posts.response.PostSummary;
+import com.posts.util.CursorCodec;
 import com.posts.util.IdConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -31,93 +53,287 @@ public class PostService {
 
     private final PostRepository postRepository;
 
+    private final PostContentRepository postContentRepository;
+
     private final PasswordEncoder passwordEncoder;
 
+    private final PasswordHasher passwordHasher;
+
+    private final DatabaseExecutor databaseExecutor;
+
     private final IdConverter<Long> idConverter;
 
+    private final CursorCodec cursorCodec;
+
+    private final PostCounter postCounter;
+
+    private final PostDetailCache postDetailCache;
+
+    private final PostPageSnapshot postPageSnapshot;
+
+    private final RecentPostChanges recentPostChanges;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper;
+
+    private final PostImporter postImporter;
+
+    private final PostSearchIndex postSearchIndex;
+
+    private final PostTitleTrie postTitleTrie;
+
     @Value("${post.amount}")
     private int amountPerPage;
 
+    @Value("${post.batch.max-size}")
+    private int maxBatchSize;
+
     /**
-     * 글 작성
+     * 글 작성, 비밀번호 암호화는 트랜잭션 밖에서 실행해서 해싱하는 동안 커넥션을 잡지 않음
      *
      * @param request 글 작성 요청 dto
      * @return 저장된 게시글 id
      */
-    @Transactional
     public Long write(PostWrite request) {
-        Post post = Post.builder()
-                        .username(request.getUsername())
-                        .password(passwordEncoder.encode(request.getRawPassword()))
-                        .title(request.getTitle())
-                        .content(request.getContent())
-                        .build();
-        postRepository.save(post);
-        log.info("글 작성 id={}", post.getId());
-        return post.getId();
+        return save(request, passwordEncoder.encode(request.getRawPassword()));
+    }
+
+    /**
+     * 글 작성, 비밀번호 암호화는 전용 스레드 풀에서 실행하고 저장은 DatabaseExecutor에서 실행
+     *
+     * @param request 글 작성 요청 dto
+     * @return 저장된 게시글 id
+     */
+    public CompletableFuture<Long> writeAsync(PostWrite request) {
+        return passwordHasher.encode(request.getRawPassword())
+                             .thenApplyAsync(encodedPassword -> save(request, encodedPassword), databaseExecutor::execute);
+    }
+
+    /**
+     * 글 여러개 작성, 비밀번호 암호화는 전용 스레드 풀에서 나눠 실행하고 insert는 JDBC 배치로 묶어서 저장
+     *
+     * @param requests 글 작성 요청 dto들
+     * @return 요청 순서대로 저장된 게시글 id들
+     * @throws BatchSizeExceededException 한 번에 작성할 수 있는 개수를 넘으면 예외 발생
+     */
+    public CompletableFuture<List<Long>> writeAllAsync(List<PostWrite> requests) throws BatchSizeExceededException {
+        if (requests.size() > maxBatchSize) {
+            throw new BatchSizeExceededException();
+        }
+        List<String> rawPasswords = requests.stream()
+                                            .map(PostWrite::getRawPassword)
+                                            .toList();
+        return passwordHasher.encodeAll(rawPasswords)
+                             .thenApplyAsync(encodedPasswords -> saveAll(requests, encodedPasswords),
+                                             databaseExecutor::execute);
     }
 
     /**
-     * 글 단건 조회
+     * 글 단건 조회, 최근에 바뀐 글을 캐시에 다시 채울 때는 replica 지연으로 이전 내용이 남지 않도록 primary에서 조회
      *
      * @param id 조회할 게시글의 id
      * @return 조회 게시글 응답 dto
      */
     @Transactional(readOnly = true)
     public PostDetail get(Long id) {
-        Post post = findPost(id);
-        log.info("글 조회 id={}", post.getId());
-        return PostDetail.builder()
-                         .id(post.getId())
-                         .username(post.getUsername())
-                         .title(post.getTitle())
-                         .content(post.getContent())
-                         .build();
+        PostDetail postDetail = postDetailCache.get(id, key -> recentPostChanges.read(key, () -> loadDetail(key)));
+        log.info("글 조회 id={}", postDetail.getId());
+        return postDetail;
+    }
+
+    /**
+     * 글 버전 조회, 캐시에 있으면 DB를 조회하지 않고 없으면 내용을 제외한 버전 컬럼만 조회
+     *
+     * @param id 조회할 게시글의 id
+     * @return 수정될 때마다 증가하는 버전
+     * @throws NotFoundPostException 해당 id의 게시글이 없으면 예외 발생
+     */
+    public Long getVersion(Long id) throws NotFoundPostException {
+        PostDetail cached = postDetailCache.getIfPresent(id);
+        if (cached != null) {
+            return cached.getVersion();
+        }
+        return recentPostChanges.read(id, () -> postRepository.findVersion(id))
+                                .orElseThrow(NotFoundPostException::new);
     }
 
     /**
      * 글 여러개 조회, id 내림차순으로 리턴
+     * 앞쪽 페이지는 메모리에 보관한 목록에서 리턴하므로 트랜잭션을 열지 않고, 나머지는 조회 쿼리가 읽기 전용 트랜잭션으로 실행됨
+     * 최근에 바뀐 글이 있으면 결과가 캐시에 남으므로 primary에서 조회
      *
      * @param currentPage 조회할 페이지 번호
      * @return
      */
-    @Transactional(readOnly = true)
     public List<PostSummary> getList(int currentPage) {
-        Pageable pageable = PageRequest.of(currentPage - 1, amountPerPage, Sort.by("id").descending());
-        return postRepository.findAll(pageable)
-                             .stream()
-                             .map(post -> {
-                                 return PostSummary.builder()
-                                                   .id(post.getId())
-                                                   .username(post.getUsername())
-                                                   .title(post.getTitle())
-                                                   .build();
-                             }).toList();
+        return recentPostChanges.readList(() -> {
+            if (postPageSnapshot.covers(currentPage)) {
+                return postPageSnapshot.getPage(currentPage);
+            }
+            Pageable pageable = PageRequest.of(currentPage - 1, amountPerPage);
+            return postRepository.findSummaries(pageable)
+                                 .getContent();
+        });
+    }
+
+    /**
+     * 커서 이후의 글 여러개 조회, id 내림차순으로 리턴
+     * 앞 페이지들을 건너뛰지 않으므로 깊은 페이지도 첫 페이지와 같은 비용으로 조회
+     *
+     * @param cursor 이전 응답의 nextCursor, 없으면 처음부터 조회
+     * @return 조회한 글들과 다음 페이지 커서, 마지막 페이지면 nextCursor는 null
+     */
+    @Transactional(readOnly = true)
+    public PostCursorPage getListByCursor(String cursor) {
+        Long lastId = cursor == null ? Long.MAX_VALUE : cursorCodec.decode(cursor);
+        // 다음 페이지 존재 여부를 알기 위해 한 개 더 조회
+        return toCursorPage(postRepository.findSummariesBefore(lastId, PageRequest.ofSize(amountPerPage + 1)));
+    }
+
+    /**
+     * 작성자의 글 목록 조회, id 내림차순으로 리턴
+     * 커서 이후의 글만 (username, id) 인덱스 범위로 읽으므로 글이 많은 작성자도 같은 비용으로 조회
+     *
+     * @param username 작성자
+     * @param cursor   이전 응답의 nextCursor, 없으면 최신 글부터 조회
+     * @return 조회한 글들과 다음 페이지 커서, 마지막 페이지면 nextCursor는 null
+     */
+    @Transactional(readOnly = true)
+    public PostCursorPage getListByUsername(String username, String cursor) {
+        Long lastId = cursor == null ? Long.MAX_VALUE : cursorCodec.decode(cursor);
+        return toCursorPage(postRepository.findSummariesByUsernameBefore(username, lastId, PageRequest.ofSize(amountPerPage + 1)));
+    }
+
+    /**
+     * 제목과 내용 검색, 메모리의 역색인에서 점수 순으로 id를 찾은 뒤 해당 페이지의 글만 조회
+     *
+     * @param query       검색어, 띄어쓰기와 기호로 나눈 단어 중 하나라도 들어있는 글을 찾음
+     * @param currentPage 조회할 페이지 번호
+     * @return 점수 내림차순, 같으면 최신 글 순
+     */
+    @Transactional(readOnly = true)
+    public List<PostSummary> search(String query, int currentPage) {
+        List<Long> ids = postSearchIndex.search(query, (currentPage - 1) * amountPerPage, amountPerPage);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostSummary> found = new HashMap<>();
+        postRepository.findSummariesByIds(ids)
+                      .forEach(postSummary -> found.put(postSummary.getId(), postSummary));
+        // 색인 조회 이후 삭제된 글은 제외
+        return ids.stream()
+                  .map(found::get)
+                  .filter(Objects::nonNull)
+                  .toList();
     }
 
     /**
-     * 글 수정
+     * 제목 자동 완성, DB를 조회하지 않고 메모리의 trie에서 찾음
+     *
+     * @param prefix 제목 앞부분, 대소문자 구분 없음
+     * @return 제목이 prefix로 시작하는 최신 글들, id 내림차순
+     */
+    public List<PostSuggestion> suggest(String prefix) {
+        return postTitleTrie.suggest(prefix);
+    }
+
+    /**
+     * 전체 글 개수, count 쿼리 없이 메모리에 유지하는 값을 리턴
+     *
+     * @return 전체 글 개수
+     */
+    public long count() {
+        return postCounter.get();
+    }
+
+    /**
+     * 전체 글을 한 줄에 하나씩 JSON으로 출력(NDJSON)
+     * 스트림으로 읽으면서 바로 출력하므로 글 개수와 관계없이 메모리 사용량이 일정함
+     *
+     * @param out 출력할 스트림, 닫지 않음
+     */
+    @Transactional(readOnly = true)
+    public void export(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(PostExport.class)
+                                          .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory()
+                                                   .createGenerator(out)
+                                                   .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+             Stream<PostExport> posts = postRepository.streamExport()) {
+            generator.setRootValueSeparator(null);
+            Iterator<PostExport> iterator = posts.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                ++count;
+            }
+        }
+        log.info("글 {}개 내보내기", count);
+    }
+
+    /**
+     * NDJSON으로 받은 글들을 일정 개수씩 나눠 저장
+     *
+     * @param in 한 줄에 글 작성 요청 하나씩인 NDJSON
+     * @return 저장한 개수, 실패한 줄과 이유, 처리 속도
+     */
+    public PostImportResult importPosts(InputStream in) throws IOException {
+        return postImporter.importFrom(in);
+    }
+
+    /**
+     * 글 수정, 조회 없이 제목과 내용 테이블에 update 한 번씩으로 처리
      *
      * @param request 글 수정 dto
      * @return 수정한 글의 id
+     * @throws NotFoundPostException 해당 id의 게시글이 없으면 예외 발생
      */
     @Transactional
     public Long edit(Long id, PostEdit request) {
-        Post post = findPost(id);
-        post.updateTitle(request.getTitle());
-        post.updateContent(request.getContent());
+        if (postRepository.updateTitle(id, request.getTitle()) == 0) {
+            throw new NotFoundPostException();
+        }
+        postContentRepository.updateContent(id, request.getContent());
+        // update 쿼리는 엔티티 리스너를 거치지 않으므로 직접 발행
+        eventPublisher.publishEvent(PostChangedEvent.updated(id, null, request.getTitle(), request.getContent()));
+        return id;
+    }
 
-        return post.getId();
+    /**
+     * 버전이 같을 때만 글 수정, 버전 확인과 제목 수정을 update 한 번으로 처리해서 잠금 없이 동시 수정을 막음
+     *
+     * @param request         글 수정 dto
+     * @param expectedVersion 클라이언트가 마지막으로 조회한 버전, null이면 어떤 버전과도 일치하지 않음
+     * @return 수정한 글의 id
+     * @throws NotFoundPostException         해당 id의 게시글이 없으면 예외 발생
+     * @throws PostVersionMismatchException 버전이 다르면 예외 발생
+     */
+    @Transactional
+    public Long edit(Long id, PostEdit request, Long expectedVersion) throws PostVersionMismatchException {
+        if (expectedVersion == null || postRepository.updateTitleIfVersion(id, request.getTitle(), expectedVersion) == 0) {
+            if (!postRepository.existsById(id)) {
+                throw new NotFoundPostException();
+            }
+            throw new PostVersionMismatchException();
+        }
+        postContentRepository.updateContent(id, request.getContent());
+        eventPublisher.publishEvent(PostChangedEvent.updated(id, null, request.getTitle(), request.getContent()));
+        return id;
     }
 
     /**
-     * 글 삭제
+     * 글 삭제, 조회 없이 delete 한 번으로 처리
      * @param id 삭제할 글의 id
+     * @throws NotFoundPostException 해당 id의 게시글이 없으면 예외 발생
      */
     @Transactional
     public void delete(Long id) {
-        Post post = findPost(id);
-        postRepository.delete(post);
+        if (postRepository.deletePostById(id) == 0) {
+            throw new NotFoundPostException();
+        }
+        eventPublisher.publishEvent(PostChangedEvent.deleted(id));
     }
 
     /**
@@ -133,10 +349,79 @@ public class PostService {
         }
     }
 
+    /**
+     * 비밀번호 확인, 비교는 전용 스레드 풀에서 실행
+     * @param id          확인할 글 id
+     * @param rawPassword 입력한 비밀번호
+     * @return 비밀번호가 일치하지 않으면 IncorrectPasswordException으로 완료
+     * @throws NotFoundPostException 해당 id의 게시글이 없으면 예외 발생
+     */
+    public CompletableFuture<Void> checkPasswordAsync(Long id, String rawPassword) throws NotFoundPostException {
+        Post post = findPost(id);
+        return passwordHasher.matches(rawPassword, post.getPassword())
+                             .thenAccept(matched -> {
+                                 if (!matched) {
+                                     throw new IncorrectPasswordException();
+                                 }
+                             });
+    }
+
     public Map<String, Long> idConvertToJson(Long id) {
         return idConverter.convert(id);
     }
 
+    private Long save(PostWrite request, String encodedPassword) {
+        Post post = Post.builder()
+                        .username(request.getUsername())
+                        .password(encodedPassword)
+                        .title(request.getTitle())
+                        .content(request.getContent())
+                        .build();
+        postRepository.save(post);
+        log.info("글 작성 id={}", post.getId());
+        return post.getId();
+    }
+
+    private List<Long> saveAll(List<PostWrite> requests, List<String> encodedPasswords) {
+        List<Post> posts = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); ++i) {
+            PostWrite request = requests.get(i);
+            posts.add(Post.builder()
+                          .username(request.getUsername())
+                          .password(encodedPasswords.get(i))
+                          .title(request.getTitle())
+                          .content(request.getContent())
+                          .build());
+        }
+        // saveAll은 하나의 트랜잭션에서 저장하므로 커밋 시점에 batch_size 단위로 insert가 묶임
+        postRepository.saveAll(posts);
+        log.info("글 {}개 작성", posts.size());
+        return posts.stream()
+                    .map(Post::getId)
+                    .toList();
+    }
+
+    /**
+     * @param posts 한 페이지보다 한 개 더 조회한 글들
+     */
+    private PostCursorPage toCursorPage(List<PostSummary> posts) {
+        if (posts.size() <= amountPerPage) {
+            return PostCursorPage.builder()
+                                 .posts(posts)
+                                 .build();
+        }
+        List<PostSummary> page = posts.subList(0, amountPerPage);
+        return PostCursorPage.builder()
+                             .posts(page)
+                             .nextCursor(cursorCodec.encode(page.get(amountPerPage - 1).getId()))
+                             .build();
+    }
+
+    private PostDetail loadDetail(Long id) {
+        return postRepository.findDetail(id)
+                             .orElseThrow(NotFoundPostException::new);
+    }
+
     /**
      * @param id
      * @return 조회한 엔티티 리턴
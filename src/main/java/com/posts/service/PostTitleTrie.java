@@ -0,0 +1,399 @@
+package com.posts.service;
+
+import com.posts.event.PostChangedEvent;
+import com.posts.repository.PostRepository;
+import com.posts.response.PostSuggestion;
+import com.posts.response.PostSummary;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 제목 앞부분으로 글을 찾는 radix trie, 대소문자는 구분하지 않음
+ * 노드마다 하위 제목 중 최신 글 id를 최대 size개 보관하므로 조회는 접두사 길이만큼만 내려가고 하위 노드를 순회하지 않음
+ * 시작할 때 전체 글로 만들고 이후에는 작성, 제목 수정, 삭제가 커밋될 때마다 해당 글만 반영
+ * <p>
+ * 메모리는 제목 하나당 대략 노드 최대 2개(약 100바이트 + 추천 id 8바이트 * size)와
+ * 간선 문자열, 표시용 제목(각각 약 40바이트 + 제목 길이)을 합쳐 size가 10이면 약 350바이트 + 제목 길이의 2배
+ */
+@Slf4j
+@Component
+public class PostTitleTrie {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final PostRepository postRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int size;
+
+    private final Node root = new Node("");
+
+    // 삭제할 때 trie에서 찾아갈 키와 응답에 표시할 원래 제목
+    private final Map<Long, String> titles = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public PostTitleTrie(PostRepository postRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${post.suggest.size}") int size) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.size = size;
+    }
+
+    /**
+     * DB의 전체 글 제목으로 trie를 다시 만듦, 만드는 동안 변경 반영과 조회는 대기
+     */
+    @PostConstruct
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            root.clear();
+            titles.clear();
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<PostSummary> posts = postRepository.streamSummaries()) {
+                    posts.forEach(post -> insert(post.getId(), post.getTitle()));
+                }
+            });
+            log.info("제목 trie 생성 글 {}개", titles.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (event.getType() == PostChangedEvent.Type.UPDATED
+                    && Objects.equals(titles.get(event.getId()), event.getTitle())) {
+                return;
+            }
+            remove(event.getId());
+            if (event.getType() != PostChangedEvent.Type.DELETED) {
+                insert(event.getId(), event.getTitle());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param prefix 제목 앞부분, 대소문자 구분 없음
+     * @return 제목이 prefix로 시작하는 글 중 최신 글 최대 size개, id 내림차순
+     */
+    public List<PostSuggestion> suggest(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return List.of();
+        }
+        String key = normalize(prefix);
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int depth = 0;
+            while (depth < key.length()) {
+                Node child = node.child(key.charAt(depth));
+                if (child == null) {
+                    return List.of();
+                }
+                int matched = child.match(key, depth);
+                if (depth + matched < key.length() && matched < child.label.length()) {
+                    return List.of();
+                }
+                depth += matched;
+                node = child;
+            }
+            List<PostSuggestion> suggestions = new ArrayList<>(node.top.length);
+            for (long id : node.top) {
+                suggestions.add(PostSuggestion.builder()
+                                              .id(id)
+                                              .title(titles.get(id))
+                                              .build());
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 보관 중인 제목 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return titles.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static String normalize(String title) {
+        return title.toLowerCase(Locale.ROOT);
+    }
+
+    private void insert(Long id, String title) {
+        if (title == null) {
+            return;
+        }
+        titles.put(id, title);
+        String key = normalize(title);
+        Node node = root;
+        node.offer(id, size);
+        int depth = 0;
+        while (depth < key.length()) {
+            Node child = node.child(key.charAt(depth));
+            if (child == null) {
+                child = new Node(key.substring(depth));
+                node.addChild(child);
+            } else {
+                int matched = child.match(key, depth);
+                if (matched < child.label.length()) {
+                    child = node.split(child, matched);
+                }
+            }
+            child.offer(id, size);
+            depth += child.label.length();
+            node = child;
+        }
+        node.ids = Node.insert(node.ids, id);
+    }
+
+    private void remove(Long id) {
+        String title = titles.remove(id);
+        if (title == null) {
+            return;
+        }
+        String key = normalize(title);
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int depth = 0;
+        while (depth < key.length()) {
+            node = node.child(key.charAt(depth));
+            depth += node.label.length();
+            path.add(node);
+        }
+        node.ids = Node.delete(node.ids, id);
+
+        // 아래에서부터 비거나 자식이 하나뿐인 노드를 정리하고, 삭제한 id가 있던 추천 목록만 다시 계산
+        for (int i = path.size() - 1; i >= 0; --i) {
+            Node current = path.get(i);
+            if (i > 0) {
+                Node parent = path.get(i - 1);
+                if (current.ids.length == 0 && current.children.length == 0) {
+                    parent.removeChild(current);
+                    continue;
+                }
+                if (current.ids.length == 0 && current.children.length == 1) {
+                    Node merged = current.mergeWithChild();
+                    parent.replaceChild(current, merged);
+                    path.set(i, merged);
+                    current = merged;
+                }
+            }
+            if (Node.searchDescending(current.top, id) >= 0) {
+                current.recomputeTop(size);
+            }
+        }
+    }
+
+    /**
+     * 간선 문자열과 자식, 이 노드에서 끝나는 제목의 글 id, 하위 전체의 최신 글 id를 가진 노드
+     */
+    private static class Node {
+
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private String label;
+
+        // 간선 첫 글자 오름차순
+        private Node[] children = NO_CHILDREN;
+
+        // 이 노드에서 끝나는 제목의 글 id, 오름차순
+        private long[] ids = EMPTY;
+
+        // 하위 전체에서 최신 글 id, 내림차순
+        private long[] top = EMPTY;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        void clear() {
+            children = NO_CHILDREN;
+            ids = EMPTY;
+            top = EMPTY;
+        }
+
+        Node child(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = children[mid].label.charAt(0);
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return key의 from 위치부터 label과 일치하는 글자 수
+         */
+        int match(String key, int from) {
+            int length = Math.min(label.length(), key.length() - from);
+            int i = 0;
+            while (i < length && label.charAt(i) == key.charAt(from + i)) {
+                ++i;
+            }
+            return i;
+        }
+
+        void addChild(Node child) {
+            char first = child.label.charAt(0);
+            int index = 0;
+            while (index < children.length && children[index].label.charAt(0) < first) {
+                ++index;
+            }
+            Node[] next = new Node[children.length + 1];
+            System.arraycopy(children, 0, next, 0, index);
+            next[index] = child;
+            System.arraycopy(children, index, next, index + 1, children.length - index);
+            children = next;
+        }
+
+        void removeChild(Node child) {
+            Node[] next = new Node[children.length - 1];
+            int j = 0;
+            for (Node node : children) {
+                if (node != child) {
+                    next[j++] = node;
+                }
+            }
+            children = next;
+        }
+
+        void replaceChild(Node before, Node after) {
+            for (int i = 0; i < children.length; ++i) {
+                if (children[i] == before) {
+                    children[i] = after;
+                    return;
+                }
+            }
+        }
+
+        /**
+         * child의 간선을 at 위치에서 나눠 중간 노드를 만들고 리턴
+         */
+        Node split(Node child, int at) {
+            Node middle = new Node(child.label.substring(0, at));
+            child.label = child.label.substring(at);
+            middle.children = new Node[]{child};
+            middle.top = child.top;
+            replaceChild(child, middle);
+            return middle;
+        }
+
+        /**
+         * 제목이 끝나지 않고 자식이 하나뿐인 노드를 자식과 합친 노드를 리턴
+         */
+        Node mergeWithChild() {
+            Node child = children[0];
+            child.label = label + child.label;
+            return child;
+        }
+
+        void offer(long id, int size) {
+            int index = searchDescending(top, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertion = -index - 1;
+            if (insertion >= size) {
+                return;
+            }
+            int length = Math.min(top.length + 1, size);
+            long[] next = new long[length];
+            System.arraycopy(top, 0, next, 0, insertion);
+            next[insertion] = id;
+            System.arraycopy(top, insertion, next, insertion + 1, length - insertion - 1);
+            top = next;
+        }
+
+        void recomputeTop(int size) {
+            top = EMPTY;
+            for (int i = ids.length - 1; i >= 0 && i >= ids.length - size; --i) {
+                offer(ids[i], size);
+            }
+            for (Node child : children) {
+                for (long id : child.top) {
+                    offer(id, size);
+                }
+            }
+        }
+
+        /**
+         * 내림차순 배열에서 Arrays.binarySearch와 같은 규칙으로 위치를 찾음
+         */
+        static int searchDescending(long[] sorted, long id) {
+            int low = 0;
+            int high = sorted.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (sorted[mid] > id) {
+                    low = mid + 1;
+                } else if (sorted[mid] < id) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        static long[] insert(long[] ids, long id) {
+            int index = Arrays.binarySearch(ids, id);
+            if (index >= 0) {
+                return ids;
+            }
+            int insertion = -index - 1;
+            long[] next = new long[ids.length + 1];
+            System.arraycopy(ids, 0, next, 0, insertion);
+            next[insertion] = id;
+            System.arraycopy(ids, insertion, next, insertion + 1, ids.length - insertion);
+            return next;
+        }
+
+        static long[] delete(long[] ids, long id) {
+            int index = Arrays.binarySearch(ids, id);
+            if (index < 0) {
+                return ids;
+            }
+            if (ids.length == 1) {
+                return EMPTY;
+            }
+            long[] next = new long[ids.length - 1];
+            System.arraycopy(ids, 0, next, 0, index);
+            System.arraycopy(ids, index + 1, next, index, ids.length - index - 1);
+            return next;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.posts.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.posts.datasource.ReadYourWrites;
+import com.posts.event.PostChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * read-your-writes 시간 안에 작성, 수정, 삭제된 글과 마지막 변경 시각
+ * 캐시에서 제거된 뒤 다시 채우는 조회가 아직 변경이 반영되지 않은 replica를 읽으면 이전 내용이 다음 변경 때까지 캐시에 남으므로,
+ * 그 시간 동안은 해당 글, 목록을 다시 채우는 조회를 primary에서 실행
+ * replica 라우팅을 사용하지 않으면 고정해도 달라지는 것이 없음
+ */
+@Component
+public class RecentPostChanges {
+
+    private final Cache<Long, Boolean> changedIds;
+
+    private final long windowNanos;
+
+    private volatile long lastChangedNanos;
+
+    public RecentPostChanges(@Value("${post.datasource.read-your-writes-seconds}") int windowSeconds) {
+        Duration window = Duration.ofSeconds(windowSeconds);
+        this.changedIds = Caffeine.newBuilder()
+                                  .expireAfterWrite(window)
+                                  .build();
+        this.windowNanos = window.toNanos();
+        this.lastChangedNanos = System.nanoTime() - windowNanos;
+    }
+
+    /**
+     * 글 하나를 다시 채우는 조회, 최근에 바뀐 글이면 primary에서 실행
+     */
+    public <T> T read(Long id, Supplier<T> loader) {
+        return changedIds.getIfPresent(id) != null ? pinned(loader) : loader.get();
+    }
+
+    /**
+     * 글 목록을 다시 채우는 조회, 최근에 바뀐 글이 하나라도 있으면 primary에서 실행
+     */
+    public <T> T readList(Supplier<T> loader) {
+        return System.nanoTime() - lastChangedNanos < windowNanos ? pinned(loader) : loader.get();
+    }
+
+    /**
+     * 캐시에서 제거하기 전에 기록해야 제거 직후 다시 채우는 조회도 primary에서 실행됨
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        changedIds.put(event.getId(), Boolean.TRUE);
+        lastChangedNanos = System.nanoTime();
+    }
+
+    private static <T> T pinned(Supplier<T> loader) {
+        boolean previous = ReadYourWrites.pin();
+        try {
+            return loader.get();
+        } finally {
+            ReadYourWrites.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.posts.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.posts.event.PostChangedEvent;
+import com.posts.response.SerializedResponse;
+import com.posts.util.ResponseFormat;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 글 단건 조회와 페이지 조회의 직렬화된 응답 캐시
+ * 적중하면 dto 생성과 직렬화 없이 보관한 바이트를 그대로 응답, 응답 형식(JSON, CBOR, Smile)별로 따로 보관
+ * 수정, 삭제된 글의 단건 응답을 제거하고, 작성, 수정, 삭제가 있으면 모든 페이지 응답을 제거
+ * invalidateAll은 불러오는 중인 항목을 제거하지 않으므로 페이지 키에 변경 세대를 넣어 변경 전에 시작한 조회 결과는 읽히지 않게 함
+ */
+@Component
+public class ResponseBytesCache {
+
+    private final Cache<Key, SerializedResponse> details;
+
+    private final Cache<PageKey, SerializedResponse> pages;
+
+    // 작성, 수정, 삭제마다 증가하는 페이지 응답 세대
+    private final AtomicLong pageGeneration = new AtomicLong();
+
+    public ResponseBytesCache(@Value("${post.cache.response.max-bytes}") long maxBytes, MeterRegistry meterRegistry) {
+        this.details = build(maxBytes / 4 * 3);
+        this.pages = build(maxBytes / 4);
+        CaffeineCacheMetrics.monitor(meterRegistry, details, "responseDetail");
+        CaffeineCacheMetrics.monitor(meterRegistry, pages, "responsePage");
+    }
+
+    private static <K> Cache<K, SerializedResponse> build(long maxBytes) {
+        return Caffeine.newBuilder()
+                       .maximumWeight(maxBytes)
+                       .weigher((K key, SerializedResponse serialized) -> serialized.sizeInBytes())
+                       .recordStats()
+                       .build();
+    }
+
+    /**
+     * @return 캐시에 없으면 null, 조회하지 않음
+     */
+    public SerializedResponse getDetailIfPresent(Long id, ResponseFormat format) {
+        return details.getIfPresent(new Key(id, format));
+    }
+
+    /**
+     * @param loader 캐시에 없을 때 직렬화할 함수, 예외가 발생하면 캐시하지 않음
+     */
+    public SerializedResponse getDetail(Long id, ResponseFormat format, Function<Long, SerializedResponse> loader) {
+        return details.get(new Key(id, format), key -> loader.apply(key.value()));
+    }
+
+    /**
+     * @param loader 캐시에 없을 때 직렬화할 함수, 예외가 발생하면 캐시하지 않음
+     */
+    public SerializedResponse getPage(int page, ResponseFormat format, Function<Integer, SerializedResponse> loader) {
+        PageKey key = new PageKey(page, format, pageGeneration.get());
+        SerializedResponse serialized = pages.get(key, pageKey -> loader.apply(pageKey.page()));
+        if (key.generation() != pageGeneration.get()) {
+            // 불러오는 도중 변경이 있었으면 이전 세대 항목은 더 이상 읽히지 않으므로 바로 제거
+            pages.invalidate(key);
+        }
+        return serialized;
+    }
+
+    /**
+     * 원본인 PostDetailCache, PostPageSnapshot이 먼저 반영된 뒤에 제거해야 이전 내용으로 다시 채워지지 않으므로 가장 나중에 실행
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() != PostChangedEvent.Type.CREATED) {
+            for (ResponseFormat format : ResponseFormat.values()) {
+                details.invalidate(new Key(event.getId(), format));
+            }
+        }
+        pageGeneration.incrementAndGet();
+        pages.invalidateAll();
+    }
+
+    /**
+     * 글 id와 응답 형식
+     */
+    private record Key(long value, ResponseFormat format) {
+    }
+
+    /**
+     * 페이지 번호와 응답 형식, 페이지를 불러오기 시작할 때의 세대
+     */
+    private record PageKey(int page, ResponseFormat format, long generation) {
+    }
+}
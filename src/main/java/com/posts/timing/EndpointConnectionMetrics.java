@@ -0,0 +1,78 @@
+package com.posts.timing;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청이 끝날 때 RequestTimings의 커넥션 사용량을 endpoint별 메트릭으로 기록
+ * method, uri 태그는 http.server.requests와 같은 값이므로 요청 수, 응답 시간과 함께 비교
+ * <p>
+ * - post.connection.count: 요청 하나가 얻은 커넥션 수
+ * - post.connection.acquire: 요청 하나가 커넥션을 얻기까지 기다린 시간의 합
+ * - post.connection.hold: 요청 하나가 커넥션을 잡고 있던 시간의 합
+ * 풀 전체의 활성, 유휴, 대기 커넥션 수는 hikaricp.connections.active, idle, pending으로 확인
+ */
+@Component
+public class EndpointConnectionMetrics {
+
+    public static final String COUNT = "post.connection.count";
+    public static final String ACQUIRE = "post.connection.acquire";
+    public static final String HOLD = "post.connection.hold";
+
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    // 태그가 같은 meter들은 endpoint마다 한 번만 찾아서 보관
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public EndpointConnectionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(HttpServletRequest request, RequestTimings timings) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? UNKNOWN : pattern.toString();
+        Meters endpoint = meters.computeIfAbsent(request.getMethod() + " " + uri,
+                                                 key -> new Meters(request.getMethod(), uri));
+        endpoint.count.record(timings.getConnections());
+        if (timings.getConnections() > 0) {
+            endpoint.acquire.record(timings.getAcquireNanos(), TimeUnit.NANOSECONDS);
+            endpoint.hold.record(timings.getHoldNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private class Meters {
+
+        private final DistributionSummary count;
+        private final Timer acquire;
+        private final Timer hold;
+
+        Meters(String method, String uri) {
+            this.count = DistributionSummary.builder(COUNT)
+                                            .description("요청 하나가 얻은 커넥션 수")
+                                            .tag("method", method)
+                                            .tag("uri", uri)
+                                            .register(meterRegistry);
+            this.acquire = timer(ACQUIRE, "요청 하나가 커넥션을 얻기까지 기다린 시간", method, uri);
+            this.hold = timer(HOLD, "요청 하나가 커넥션을 잡고 있던 시간", method, uri);
+        }
+
+        private Timer timer(String name, String description, String method, String uri) {
+            return Timer.builder(name)
+                        .description(description)
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .publishPercentiles(0.5, 0.99)
+                        .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.posts.timing;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 요청 하나에서 실행한 SQL 수와 DB, 비밀번호 해싱, 직렬화에 걸린 시간, 얻은 커넥션 수와 커넥션을 기다리고 잡고 있던 시간
+ * 요청 스레드에 바인딩하고, 비밀번호 해싱 스레드처럼 요청을 이어서 처리하는 스레드에는 wrap으로 전달
+ * 여러 스레드에서 함께 기록할 수 있으므로 값은 모두 원자적으로 더함
+ */
+public class RequestTimings {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long start = System.nanoTime();
+
+    private final AtomicInteger statements = new AtomicInteger();
+
+    private final AtomicLong dbNanos = new AtomicLong();
+
+    private final AtomicLong hashingNanos = new AtomicLong();
+
+    private final AtomicLong serializationNanos = new AtomicLong();
+
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private final AtomicLong acquireNanos = new AtomicLong();
+
+    private final AtomicLong holdNanos = new AtomicLong();
+
+    /**
+     * @return 현재 스레드에 바인딩된 값, 없으면 null
+     */
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return 이전에 바인딩되어 있던 값, 끝나면 restore로 되돌림
+     */
+    public static RequestTimings bind(RequestTimings timings) {
+        RequestTimings previous = CURRENT.get();
+        CURRENT.set(timings);
+        return previous;
+    }
+
+    public static void restore(RequestTimings previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * @return 실행하는 동안 지금 스레드의 값을 바인딩하는 작업, 바인딩된 값이 없으면 그대로 리턴
+     */
+    public static Runnable wrap(Runnable task) {
+        RequestTimings timings = CURRENT.get();
+        if (timings == null) {
+            return task;
+        }
+        return () -> {
+            RequestTimings previous = bind(timings);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * 새 값을 바인딩하고 task를 실행
+     *
+     * @return 실행하는 동안 기록된 값
+     */
+    public static RequestTimings measure(Runnable task) {
+        RequestTimings timings = new RequestTimings();
+        RequestTimings previous = bind(timings);
+        try {
+            task.run();
+        } finally {
+            restore(previous);
+        }
+        return timings;
+    }
+
+    public static void recordStatement(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.statements.incrementAndGet();
+            timings.dbNanos.addAndGet(nanos);
+        }
+    }
+
+    /**
+     * @param nanos 커넥션 풀에서 커넥션을 얻기까지 기다린 시간
+     */
+    public static void recordConnectionAcquired(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.connections.incrementAndGet();
+            timings.acquireNanos.addAndGet(nanos);
+        }
+    }
+
+    /**
+     * @param nanos 커넥션을 얻고 반납하기까지의 시간
+     */
+    public static void recordConnectionReleased(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.holdNanos.addAndGet(nanos);
+        }
+    }
+
+    public static <T> T timeHashing(Supplier<T> hashing) {
+        long start = System.nanoTime();
+        try {
+            return hashing.get();
+        } finally {
+            RequestTimings timings = CURRENT.get();
+            if (timings != null) {
+                timings.hashingNanos.addAndGet(System.nanoTime() - start);
+            }
+        }
+    }
+
+    public void recordSerialization(long nanos) {
+        serializationNanos.addAndGet(nanos);
+    }
+
+    public int getStatements() {
+        return statements.get();
+    }
+
+    public long getDbNanos() {
+        return dbNanos.get();
+    }
+
+    public long getHashingNanos() {
+        return hashingNanos.get();
+    }
+
+    public long getSerializationNanos() {
+        return serializationNanos.get();
+    }
+
+    public int getConnections() {
+        return connections.get();
+    }
+
+    public long getAcquireNanos() {
+        return acquireNanos.get();
+    }
+
+    public long getHoldNanos() {
+        return holdNanos.get();
+    }
+
+    /**
+     * 여러 스레드에서 나눠 해싱했으면 hashing은 각 스레드 시간의 합이므로 total보다 클 수 있음
+     *
+     * @return Server-Timing 헤더 값, 예) db;dur=1.20;desc="2 statements", acquire;dur=0.01, hold;dur=1.50;desc="1 connections",
+     * hashing;dur=0.00, serialization;dur=0.30, total;dur=2.10
+     */
+    public String toServerTiming() {
+        return String.format(Locale.ROOT, "db;dur=%s;desc=\"%d statements\", acquire;dur=%s, hold;dur=%s;desc=\"%d connections\", "
+                                     + "hashing;dur=%s, serialization;dur=%s, total;dur=%s",
+                             millis(dbNanos.get()), statements.get(), millis(acquireNanos.get()), millis(holdNanos.get()),
+                             connections.get(), millis(hashingNanos.get()), millis(serializationNanos.get()),
+                             millis(System.nanoTime() - start));
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,57 @@
+package com.posts.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 RequestTimings를 바인딩하고 Server-Timing 헤더로 응답
+ * JSON 본문은 ServerTimingJacksonConverter가 직렬화 시간까지 포함해서 헤더를 넣고, 본문이 없는 응답은 여기서 넣음
+ * 비동기 요청은 request 속성으로 같은 값을 이어서 사용
+ * 요청이 끝나면 커넥션 사용량을 EndpointConnectionMetrics에 기록
+ */
+@ConditionalOnProperty(name = "post.server-timing.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final String ATTRIBUTE = RequestTimings.class.getName();
+
+    private final EndpointConnectionMetrics endpointConnectionMetrics;
+
+    public ServerTimingFilter(EndpointConnectionMetrics endpointConnectionMetrics) {
+        this.endpointConnectionMetrics = endpointConnectionMetrics;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTimings timings = (RequestTimings) request.getAttribute(ATTRIBUTE);
+        if (timings == null) {
+            timings = new RequestTimings();
+            request.setAttribute(ATTRIBUTE, timings);
+        }
+        RequestTimings previous = RequestTimings.bind(timings);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTimings.restore(previous);
+            if (!request.isAsyncStarted()) {
+                if (!response.isCommitted() && !response.containsHeader(RequestTimings.HEADER)) {
+                    response.setHeader(RequestTimings.HEADER, timings.toServerTiming());
+                }
+                endpointConnectionMetrics.record(request, timings);
+            }
+        }
+    }
+}
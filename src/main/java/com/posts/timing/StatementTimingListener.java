@@ -0,0 +1,55 @@
+package com.posts.timing;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * JDBC 문장 실행마다 실행 시간을 현재 요청의 RequestTimings에 더함, JDBC 배치는 한 번으로 셈
+ * 커넥션을 얻을 때 기다린 시간과 얻고 반납하기까지 잡고 있던 시간도 더함
+ * hibernate.session.events.auto로 등록하므로 세션마다 하나씩 만들어짐
+ */
+public class StatementTimingListener extends BaseSessionEventListener {
+
+    private long statementStart;
+
+    private long batchStart;
+
+    private long acquisitionStart;
+
+    private long acquiredAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestTimings.recordStatement(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestTimings.recordStatement(System.nanoTime() - batchStart);
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        acquisitionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        acquiredAt = System.nanoTime();
+        RequestTimings.recordConnectionAcquired(acquiredAt - acquisitionStart);
+    }
+
+    @Override
+    public void jdbcConnectionReleaseStart() {
+        RequestTimings.recordConnectionReleased(System.nanoTime() - acquiredAt);
+    }
+}
@@ -0,0 +1,114 @@
+package com.posts.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 게시글 내용을 저장할 바이트 배열로 변환
+ * 첫 바이트는 형식 표시, threshold 바이트 이상이고 압축해서 작아지는 경우에만 Deflate로 압축
+ * <pre>
+ * [0][UTF-8 바이트]
+ * [1][원본 UTF-8 길이 4바이트][Deflate 바이트]
+ * </pre>
+ */
+public class ContentCodec {
+
+    private static final byte RAW = 0;
+    private static final byte DEFLATE = 1;
+    private static final int HEADER_SIZE = 1 + Integer.BYTES;
+    // Deflate가 낼 수 있는 최대 압축률, 원본 길이가 이보다 크면 손상된 데이터
+    private static final int MAX_DEFLATE_RATIO = 1032;
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    private final int threshold;
+
+    public ContentCodec(int threshold) {
+        this.threshold = threshold;
+    }
+
+    public byte[] encode(String content) {
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        if (raw.length >= threshold) {
+            byte[] compressed = deflate(raw);
+            if (compressed != null) {
+                return compressed;
+            }
+        }
+        byte[] encoded = new byte[raw.length + 1];
+        encoded[0] = RAW;
+        System.arraycopy(raw, 0, encoded, 1, raw.length);
+        return encoded;
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식 표시가 올바르지 않거나 압축 데이터가 손상되었으면 예외 발생
+     *                                  헤더가 잘렸거나 원본 길이가 압축 데이터로 만들 수 없는 값이어도 예외 발생
+     */
+    public String decode(byte[] encoded) throws IllegalArgumentException {
+        if (encoded.length == 0) {
+            throw new IllegalArgumentException("형식 표시가 없습니다.");
+        }
+        return switch (encoded[0]) {
+            case RAW -> new String(encoded, 1, encoded.length - 1, StandardCharsets.UTF_8);
+            case DEFLATE -> new String(inflate(encoded), StandardCharsets.UTF_8);
+            default -> throw new IllegalArgumentException("알 수 없는 형식 표시입니다. " + encoded[0]);
+        };
+    }
+
+    /**
+     * @return 압축해도 작아지지 않으면 null
+     */
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + HEADER_SIZE);
+            out.write(DEFLATE);
+            out.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(raw.length).array());
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+                if (out.size() >= raw.length + 1) {
+                    return null;
+                }
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] encoded) {
+        if (encoded.length < HEADER_SIZE) {
+            throw new IllegalArgumentException("압축 데이터의 헤더가 잘렸습니다.");
+        }
+        int length = ByteBuffer.wrap(encoded, 1, Integer.BYTES).getInt();
+        long bound = Math.min(MAX_ARRAY_LENGTH, (long) (encoded.length - HEADER_SIZE) * MAX_DEFLATE_RATIO);
+        if (length < 0 || length > bound) {
+            throw new IllegalArgumentException("압축 데이터의 원본 길이가 올바르지 않습니다. " + length);
+        }
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(encoded, HEADER_SIZE, encoded.length - HEADER_SIZE);
+            byte[] raw = new byte[length];
+            int offset = 0;
+            while (offset < length) {
+                int read = inflater.inflate(raw, offset, length - offset);
+                if (read == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new IllegalArgumentException("압축 데이터가 손상되었습니다.");
+                }
+                offset += read;
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("압축 데이터가 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
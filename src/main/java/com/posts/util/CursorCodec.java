@@ -0,0 +1,36 @@
+package com.posts.util;
+
+import com.posts.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 마지막으로 조회한 글 id를 클라이언트에게 전달할 불투명한 커서 문자열로 변환
+ */
+public class CursorCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public String encode(Long lastId) {
+        return ENCODER.encodeToString(String.valueOf(lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor encode로 만든 커서
+     * @return 커서가 가리키는 마지막 글 id
+     * @throws InvalidCursorException 커서 형식이 올바르지 않으면 예외 발생
+     */
+    public Long decode(String cursor) throws InvalidCursorException {
+        try {
+            long lastId = Long.parseLong(new String(DECODER.decode(cursor), StandardCharsets.UTF_8));
+            if (lastId <= 0) {
+                throw new InvalidCursorException();
+            }
+            return lastId;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
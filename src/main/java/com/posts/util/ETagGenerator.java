@@ -0,0 +1,88 @@
+package com.posts.util;
+
+import com.posts.response.PostSummary;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 응답 본문이 바뀌었는지 판단할 강한 ETag 생성
+ */
+public class ETagGenerator {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    /**
+     * 글 단건 조회용, 수정될 때마다 증가하는 버전으로 생성하므로 본문을 읽지 않아도 됨
+     */
+    public String of(Long id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    /**
+     * 응답 본문의 ETag, 형식과 압축이 다르면 본문 바이트가 다르므로 강한 ETag도 다르게 만듦
+     * JSON을 압축하지 않고 보낼 때는 그대로, 나머지는 "1-3-cbor", "1-3-gzip", "1-3-cbor-gzip"처럼 접미사를 붙임
+     *
+     * @param eTag   of로 만든 ETag
+     * @param format 응답 형식
+     * @param gzip   gzip으로 압축해서 보내는지
+     */
+    public String of(String eTag, ResponseFormat format, boolean gzip) {
+        StringBuilder suffix = new StringBuilder();
+        if (format != ResponseFormat.JSON) {
+            suffix.append('-').append(format.name().toLowerCase(Locale.ROOT));
+        }
+        if (gzip) {
+            suffix.append("-gzip");
+        }
+        return suffix.isEmpty() ? eTag : eTag.substring(0, eTag.length() - 1) + suffix + "\"";
+    }
+
+    /**
+     * If-Match 헤더에서 해당 글의 버전을 찾음, 형식과 압축 접미사가 붙은 ETag도 같은 버전으로 봄
+     *
+     * @param id      글 id
+     * @param ifMatch If-Match 헤더 값, 쉼표로 구분된 여러 ETag 가능
+     * @return of(id, version)으로 만든 ETag가 있으면 그 버전, 없으면 null
+     */
+    public Long parseVersion(Long id, String ifMatch) {
+        String prefix = "\"" + id + "-";
+        for (String eTag : ifMatch.split(",")) {
+            String trimmed = eTag.trim();
+            if (trimmed.startsWith(prefix) && trimmed.endsWith("\"") && trimmed.length() > prefix.length() + 1) {
+                String version = trimmed.substring(prefix.length(), trimmed.length() - 1);
+                int suffix = version.indexOf('-');
+                try {
+                    return Long.parseLong(suffix < 0 ? version : version.substring(0, suffix));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 글 목록용, 목록에 포함된 id, 작성자, 제목으로 생성
+     */
+    public String of(List<PostSummary> postSummaries) {
+        MessageDigest digest = sha256();
+        for (PostSummary postSummary : postSummaries) {
+            digest.update((postSummary.getId() + "\0" + postSummary.getUsername() + "\0" + postSummary.getTitle() + "\n")
+                                  .getBytes(StandardCharsets.UTF_8));
+        }
+        return "\"" + ENCODER.encodeToString(digest.digest()) + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.posts.util;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 응답 본문 형식, JSON과 같은 dto를 더 작고 빠르게 읽을 수 있는 바이너리 형식(CBOR, Smile)으로도 응답
+ */
+public enum ResponseFormat {
+
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(new MediaType("application", "x-jackson-smile"));
+
+    private static final List<MediaType> SUPPORTED = Arrays.stream(values())
+                                                           .map(ResponseFormat::getMediaType)
+                                                           .toList();
+
+    // q값이 높은 순, 같으면 와일드카드가 아닌 타입부터
+    private static final Comparator<MediaType> PREFERENCE = Comparator.comparingDouble(MediaType::getQualityValue)
+                                                                      .reversed()
+                                                                      .thenComparing(MediaType::isWildcardType)
+                                                                      .thenComparing(MediaType::isWildcardSubtype);
+
+    private final MediaType mediaType;
+
+    ResponseFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Accept 헤더에서 가장 선호하는 지원 형식을 고름, 헤더가 없거나 모든 형식을 허용하면 JSON
+     *
+     * @param accept Accept 헤더
+     * @throws HttpMediaTypeNotAcceptableException 지원하는 형식이 없을 때
+     */
+    public static ResponseFormat negotiate(String accept) throws HttpMediaTypeNotAcceptableException {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> requested;
+        try {
+            requested = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            throw new HttpMediaTypeNotAcceptableException(e.getMessage());
+        }
+        return requested.stream()
+                        .filter(mediaType -> mediaType.getQualityValue() > 0)
+                        .sorted(PREFERENCE)
+                        .flatMap(mediaType -> Arrays.stream(values())
+                                                    .filter(format -> mediaType.isCompatibleWith(format.mediaType)))
+                        .findFirst()
+                        .orElseThrow(() -> new HttpMediaTypeNotAcceptableException(SUPPORTED));
+    }
+}
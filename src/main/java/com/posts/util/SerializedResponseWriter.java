@@ -0,0 +1,135 @@
+package com.posts.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.posts.response.SerializedResponse;
+import com.posts.timing.RequestTimings;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 응답 dto를 요청한 형식(JSON, CBOR, Smile)과 gzip 바이트로 직렬화하고, 직렬화된 본문을 메시지 컨버터를 거치지 않고 응답 스트림에 바로 씀
+ * 형식별 ObjectMapper는 메시지 컨버터와 같은 것을 사용해서 컨버터로 응답하는 api와 필드 순서, 설정이 같음
+ */
+public class SerializedResponseWriter {
+
+    private static final String GZIP = "gzip";
+
+    // 이보다 짧은 본문은 압축해도 헤더 크기 정도밖에 줄지 않으므로 압축하지 않음
+    private static final int MIN_GZIP_LENGTH = 256;
+
+    // 같은 리소스라도 형식, 압축에 따라 본문이 다르므로 공유 캐시가 두 헤더로 구분하도록 함
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    private final Map<ResponseFormat, ObjectMapper> objectMappers;
+
+    private final ETagGenerator eTagGenerator;
+
+    /**
+     * @param objectMappers 형식별 ObjectMapper, 모든 형식이 있어야 함
+     * @param eTagGenerator 형식, 압축 접미사를 붙인 응답 ETag 생성
+     */
+    public SerializedResponseWriter(Map<ResponseFormat, ObjectMapper> objectMappers, ETagGenerator eTagGenerator) {
+        for (ResponseFormat format : ResponseFormat.values()) {
+            if (!objectMappers.containsKey(format)) {
+                throw new IllegalArgumentException(format + " ObjectMapper 없음");
+            }
+        }
+        this.objectMappers = new EnumMap<>(objectMappers);
+        this.eTagGenerator = eTagGenerator;
+    }
+
+    /**
+     * @param body   응답 dto
+     * @param eTag   형식, 압축과 관계없는 본문의 ETag
+     * @param format 직렬화할 형식
+     */
+    public SerializedResponse serialize(Object body, String eTag, ResponseFormat format) {
+        long start = System.nanoTime();
+        try {
+            byte[] bytes = objectMappers.get(format).writeValueAsBytes(body);
+            byte[] gzip = bytes.length < MIN_GZIP_LENGTH ? null : gzip(bytes);
+            return new SerializedResponse(format, bytes, gzip != null && gzip.length < bytes.length ? gzip : null, eTag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            RequestTimings timings = RequestTimings.current();
+            if (timings != null) {
+                timings.recordSerialization(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * @return 이 요청에 실제로 쓸 본문의 ETag, If-None-Match와 비교
+     */
+    public String eTag(SerializedResponse serialized, HttpServletRequest request) {
+        return eTagGenerator.of(serialized.getETag(), serialized.getFormat(), sendsGzip(serialized, request));
+    }
+
+    /**
+     * 직렬화하기 전에 If-None-Match와 비교할 ETag, 압축 여부는 아직 모르므로 gzip을 허용하면 압축한다고 가정
+     * 짧아서 압축하지 않는 본문이면 일치하지 않아 본문을 다시 보낼 뿐 다른 본문에 304를 응답하지는 않음
+     *
+     * @param eTag 형식, 압축과 관계없는 본문의 ETag
+     */
+    public String eTag(String eTag, ResponseFormat format, HttpServletRequest request) {
+        return eTagGenerator.of(eTag, format, acceptsGzip(request));
+    }
+
+    /**
+     * 형식, 압축에 따라 본문이 달라진다는 Vary 헤더, 304 응답에도 있어야 하므로 If-None-Match를 비교하기 전에 씀
+     */
+    public void vary(HttpServletResponse response) {
+        response.setHeader(HttpHeaders.VARY, VARY);
+    }
+
+    /**
+     * Accept-Encoding에 gzip이 있으면 압축한 본문을, 없으면 직렬화한 본문을 그대로 씀
+     */
+    public void write(SerializedResponse serialized, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean gzip = sendsGzip(serialized, request);
+        byte[] body = gzip ? serialized.getGzip() : serialized.getBody();
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(serialized.getFormat().getMediaType().toString());
+        response.setHeader(HttpHeaders.ETAG, eTagGenerator.of(serialized.getETag(), serialized.getFormat(), gzip));
+        vary(response);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            response.setHeader(RequestTimings.HEADER, timings.toServerTiming());
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static boolean sendsGzip(SerializedResponse serialized, HttpServletRequest request) {
+        return serialized.getGzip() != null && acceptsGzip(request);
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains(GZIP);
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
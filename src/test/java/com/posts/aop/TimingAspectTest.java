@@ -0,0 +1,91 @@
+package com.posts.aop;
+
+import com.posts.exception.NotFoundPostException;
+import com.posts.request.PostWrite;
+import com.posts.repository.PostRepository;
+import com.posts.service.PostService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+class TimingAspectTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void clean() {
+        postRepository.deleteAll();
+    }
+
+    private Timer timer(String method, String exception) {
+        return meterRegistry.find(TimingAspect.METRIC_NAME)
+                            .tag("class", "PostService")
+                            .tag("method", method)
+                            .tag("exception", exception)
+                            .timer();
+    }
+
+    @Test
+    @DisplayName("서비스 메서드 호출마다 실행 시간과 백분위 기록")
+    void recordLatency() {
+        // given
+        long before = timer("count", "none") == null ? 0 : timer("count", "none").count();
+
+        // when
+        for (int i = 0; i < 10; ++i) {
+            postService.count();
+        }
+
+        // then
+        Timer timer = timer("count", "none");
+        assertThat(timer.count()).isEqualTo(before + 10);
+        assertThat(timer.takeSnapshot().percentileValues())
+                .extracting(ValueAtPercentile::percentile)
+                .containsExactly(0.5, 0.99, 0.999);
+    }
+
+    @Test
+    @DisplayName("예외가 발생하면 예외 이름 태그로 따로 기록")
+    void recordException() {
+        // when
+        assertThatThrownBy(() -> postService.delete(-1L))
+                .isInstanceOf(NotFoundPostException.class);
+
+        // then
+        assertThat(timer("delete", "NotFoundPostException").count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("CompletableFuture를 리턴하면 완료된 뒤 기록")
+    void recordAsync() {
+        // given
+        PostWrite request = PostWrite.builder()
+                                     .username("username")
+                                     .rawPassword("password")
+                                     .title("title")
+                                     .content("content")
+                                     .build();
+        long before = timer("writeAsync", "none") == null ? 0 : timer("writeAsync", "none").count();
+
+        // when
+        postService.writeAsync(request).join();
+
+        // then
+        assertThat(timer("writeAsync", "none").count()).isEqualTo(before + 1);
+    }
+}
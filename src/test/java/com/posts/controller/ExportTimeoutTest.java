@@ -0,0 +1,58 @@
+package com.posts.controller;
+
+import com.posts.domain.Post;
+import com.posts.repository.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+/**
+ * 비동기 요청 타임아웃을 아주 짧게 설정한 실제 서버에서 내보내기가 끝까지 응답되는지 확인
+ */
+@SpringBootTest(webEnvironment = RANDOM_PORT, properties = "spring.mvc.async.request-timeout=1")
+class ExportTimeoutTest {
+
+    private static final int POSTS = 20_000;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @AfterEach
+    void clean() {
+        postRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("내보내기는 비동기 요청 타임아웃과 관계없이 전체 글을 응답")
+    void exportIgnoresAsyncTimeout() {
+        // given
+        postRepository.saveAll(IntStream.rangeClosed(1, POSTS)
+                                        .mapToObj(i -> Post.builder()
+                                                           .username("username " + i)
+                                                           .password("password " + i)
+                                                           .title("title " + i)
+                                                           .content("content " + i)
+                                                           .build())
+                                        .toList());
+
+        // when
+        ResponseEntity<String> response = restTemplate.getForEntity("/posts/export", String.class);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().lines()).hasSize(POSTS);
+    }
+}
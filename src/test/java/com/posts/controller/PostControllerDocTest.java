@@ -15,6 +15,7 @@ import org.springframework.restdocs.RestDocumentationContextProvider;
 import org.springframework.restdocs.RestDocumentationExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
@@ -27,6 +28,8 @@ import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuild
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Deprecated
@@ -161,11 +164,15 @@ public class PostControllerDocTest {
 
         String json = objectMapper.writeValueAsString(request);
 
-        // expected
-        mockMvc.perform(post("/posts/post")
+        MvcResult mvcResult = mockMvc.perform(post("/posts/post")
                 .contentType(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
                 .content(json))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // expected
+        mockMvc.perform(asyncDispatch(mvcResult))
             .andExpect(status().isCreated())
             .andDo(document("post-write",
                     requestFields(
@@ -293,11 +300,15 @@ public class PostControllerDocTest {
         Long id = post.getId();
         String rawPassword = "password";
 
-        // expected
-        mockMvc.perform(post("/posts/post/check/{id}", id)
+        MvcResult mvcResult = mockMvc.perform(post("/posts/post/check/{id}", id)
                 .contentType(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
                 .content(rawPassword))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // expected
+        mockMvc.perform(asyncDispatch(mvcResult))
             .andExpect(status().isOk())
             .andDo(document("post-checkPassword",
                     pathParameters(
@@ -337,11 +348,15 @@ public class PostControllerDocTest {
         Long id = post.getId();
         String rawPassword = "incorrect";
 
-        // expected
-        mockMvc.perform(post("/posts/post/check/{id}", id)
+        MvcResult mvcResult = mockMvc.perform(post("/posts/post/check/{id}", id)
                 .contentType(APPLICATION_JSON)
                 .accept(APPLICATION_JSON)
                 .content(rawPassword))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // expected
+        mockMvc.perform(asyncDispatch(mvcResult))
             .andExpect(status().isUnauthorized())
             .andDo(document("post-checkPassword-incorrectPasswordException"));
     }
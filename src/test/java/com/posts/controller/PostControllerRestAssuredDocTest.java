@@ -117,6 +117,40 @@ public class PostControllerRestAssuredDocTest {
             .body("size()", response -> equalTo(10));
     }
 
+    @Test
+    @DisplayName("커서 기반 페이지 조회")
+    void getCursorPage() {
+        // given
+        IntStream.rangeClosed(1, 15).forEach((i) -> {
+            Post post = Post.builder()
+                .username("username " + i)
+                .password("password " + i)
+                .title("title " + i)
+                .content("content " + i)
+                .build();
+            postRepository.save(post);
+        });
+
+        // expected
+        RestAssured
+            .given(spec)
+            .contentType(APPLICATION_JSON_VALUE)
+            .accept(APPLICATION_JSON_VALUE)
+            .filter(document("post-cursor",
+                responseFields(
+                    fieldWithPath("posts[].id").description("게시글 id"),
+                    fieldWithPath("posts[].username").description("작성자"),
+                    fieldWithPath("posts[].title").description("글 제목"),
+                    fieldWithPath("nextCursor").description("다음 페이지 커서, 마지막 페이지면 null").optional()
+                )
+            ))
+            .when()
+            .get("/posts/cursor")
+            .then()
+            .assertThat().statusCode(SC_OK)
+            .body("posts.size()", response -> equalTo(10));
+    }
+
     @Test
     @DisplayName("글 단건 조회")
     void getPost() {
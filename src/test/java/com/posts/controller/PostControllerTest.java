@@ -1,10 +1,15 @@
 package com.posts.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.posts.domain.Post;
 import com.posts.repository.PostRepository;
 import com.posts.request.PostEdit;
 import com.posts.request.PostWrite;
+import com.posts.response.PostDetail;
+import com.posts.response.PostSummary;
+import com.posts.service.PostService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,10 +18,20 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.http.MediaType.*;
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -37,6 +52,9 @@ class PostControllerTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private PostService postService;
+
     @BeforeEach
     void clean() {
         postRepository.deleteAll();
@@ -102,6 +120,185 @@ class PostControllerTest {
                .andDo(print());
     }
 
+    @Test
+    @DisplayName("/posts/cursor에 GET 요청으로 커서 다음 글들 조회")
+    void getCursorPage() throws Exception {
+        // given
+        IntStream.rangeClosed(1, 15).forEach((i) -> {
+            Post post = Post.builder()
+                            .username("username " + i)
+                            .password("password " + i)
+                            .title("title " + i)
+                            .content("content " + i)
+                            .build();
+            postRepository.save(post);
+        });
+        String body = mockMvc.perform(get("/posts/cursor")
+                                 .contentType(APPLICATION_JSON))
+                             .andExpect(jsonPath("$.posts.length()").value(10))
+                             .andReturn().getResponse().getContentAsString();
+        String nextCursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+        // expected
+        mockMvc.perform(get("/posts/cursor")
+                   .param("cursor", nextCursor)
+                   .contentType(APPLICATION_JSON))
+               .andExpect(jsonPath("$.posts.length()").value(5))
+               .andExpect(jsonPath("$.posts[0].title").value("title 5"))
+               .andExpect(jsonPath("$.nextCursor").doesNotExist())
+               .andDo(print());
+    }
+
+    @Test
+    @DisplayName("/posts/by/{username}에 GET 요청으로 작성자의 글 조회")
+    void getListByUsername() throws Exception {
+        // given
+        IntStream.rangeClosed(1, 15).forEach((i) -> {
+            Post post = Post.builder()
+                            .username(i % 3 == 0 ? "writer" : "username " + i)
+                            .password("password " + i)
+                            .title("title " + i)
+                            .content("content " + i)
+                            .build();
+            postRepository.save(post);
+        });
+
+        // expected
+        mockMvc.perform(get("/posts/by/{username}", "writer")
+                   .contentType(APPLICATION_JSON))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.posts.length()").value(5))
+               .andExpect(jsonPath("$.posts[0].title").value("title 15"))
+               .andExpect(jsonPath("$.posts[4].title").value("title 3"))
+               .andExpect(jsonPath("$.nextCursor").doesNotExist())
+               .andDo(print());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 400 BAD REQUEST 응답")
+    void getCursorPageException() throws Exception {
+        // expected
+        mockMvc.perform(get("/posts/cursor")
+                   .param("cursor", "invalid cursor")
+                   .contentType(APPLICATION_JSON))
+               .andExpect(status().isBadRequest())
+               .andDo(print());
+    }
+
+    @Test
+    @DisplayName("/posts/search에 GET 요청으로 글 검색")
+    void search() throws Exception {
+        // given
+        IntStream.rangeClosed(1, 15).forEach((i) -> {
+            Post post = Post.builder()
+                            .username("username " + i)
+                            .password("password " + i)
+                            .title("title " + (i % 3 == 0 ? "fizz" : i))
+                            .content("content " + i)
+                            .build();
+            postRepository.save(post);
+        });
+
+        // expected
+        mockMvc.perform(get("/posts/search")
+                   .param("q", "fizz"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.length()").value(5))
+               .andExpect(jsonPath("$[0].title").value("title fizz"))
+               .andExpect(jsonPath("$[0].username").value("username 15"))
+               .andDo(print());
+    }
+
+    @Test
+    @DisplayName("/posts/suggest에 GET 요청으로 제목 자동 완성")
+    void suggest() throws Exception {
+        // given
+        IntStream.rangeClosed(1, 15).forEach((i) -> {
+            Post post = Post.builder()
+                            .username("username " + i)
+                            .password("password " + i)
+                            .title("title " + i)
+                            .content("content " + i)
+                            .build();
+            postRepository.save(post);
+        });
+
+        // expected
+        mockMvc.perform(get("/posts/suggest")
+                   .param("prefix", "Title 1"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.length()").value(7))
+               .andExpect(jsonPath("$[0].title").value("title 15"))
+               .andExpect(jsonPath("$[6].title").value("title 1"))
+               .andDo(print());
+    }
+
+    @Test
+    @DisplayName("/posts/count에 GET 요청으로 전체 글 개수 조회")
+    void count() throws Exception {
+        // given
+        IntStream.rangeClosed(1, 15).forEach((i) -> {
+            Post post = Post.builder()
+                            .username("username " + i)
+                            .password("password " + i)
+                            .title("title " + i)
+                            .content("content " + i)
+                            .build();
+            postRepository.save(post);
+        });
+
+        // expected
+        mockMvc.perform(get("/posts/count")
+                   .contentType(APPLICATION_JSON))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.count").value(15))
+               .andDo(print());
+    }
+
+    @Test
+    @DisplayName("/posts/export에 GET 요청으로 전체 글 NDJSON 내보내기")
+    void export() throws Exception {
+        // given
+        IntStream.rangeClosed(1, 15).forEach((i) -> {
+            Post post = Post.builder()
+                            .username("username " + i)
+                            .password("password " + i)
+                            .title("title " + i)
+                            .content("content " + i)
+                            .build();
+            postRepository.save(post);
+        });
+
+        // when
+        String body = mockMvc.perform(get("/posts/export"))
+                             .andExpect(request().asyncNotStarted())
+                             .andExpect(status().isOk())
+                             .andExpect(content().contentType(APPLICATION_NDJSON))
+                             .andReturn().getResponse().getContentAsString();
+        assertThat(body.lines()).hasSize(15);
+        assertThat(objectMapper.readTree(body.lines().toList().get(14)).get("title").asText()).isEqualTo("title 15");
+    }
+
+    @Test
+    @DisplayName("/posts/import에 NDJSON POST 요청으로 글 가져오기")
+    void importPosts() throws Exception {
+        // given
+        String ndjson = IntStream.rangeClosed(1, 3)
+                                 .mapToObj(i -> "{\"username\":\"username " + i + "\",\"rawPassword\":\"password " + i + "\","
+                                         + "\"title\":\"title " + i + "\",\"content\":\"content " + i + "\"}")
+                                 .collect(Collectors.joining("\n"));
+
+        // expected
+        mockMvc.perform(post("/posts/import")
+                   .contentType(APPLICATION_NDJSON)
+                   .content(ndjson + "\n{broken"))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.imported").value(3))
+               .andExpect(jsonPath("$.failed").value(1))
+               .andExpect(jsonPath("$.errors[0].line").value(4))
+               .andDo(print());
+    }
+
     @Test
     @DisplayName("/posts/post/{id}에 GET 요청으로 글 조회")
     void getPost() throws Exception {
@@ -124,6 +321,318 @@ class PostControllerTest {
                .andDo(print());
     }
 
+    @Test
+    @DisplayName("ETag가 같은 글 조회는 304 NOT MODIFIED, 수정 후에는 200 응답")
+    void getPostNotModified() throws Exception {
+        // given
+        Post post = Post.builder()
+                        .username("test username")
+                        .password("test password")
+                        .title("test title")
+                        .content("test content")
+                        .build();
+        postRepository.save(post);
+        String eTag = mockMvc.perform(get("/posts/post/{id}", post.getId()))
+                             .andExpect(status().isOk())
+                             .andExpect(header().exists("ETag"))
+                             .andReturn().getResponse().getHeader("ETag");
+
+        // expected
+        mockMvc.perform(get("/posts/post/{id}", post.getId())
+                   .header("If-None-Match", eTag))
+               .andExpect(status().isNotModified())
+               .andExpect(content().string(""))
+               .andDo(print());
+
+        postService.edit(post.getId(), PostEdit.builder()
+                                               .title("update title")
+                                               .content("update content")
+                                               .build());
+
+        mockMvc.perform(get("/posts/post/{id}", post.getId())
+                   .header("If-None-Match", eTag))
+               .andExpect(status().isOk())
+               .andExpect(header().string("ETag", not(eTag)))
+               .andExpect(jsonPath("$.title").value("update title"))
+               .andDo(print());
+    }
+
+    @Test
+    @DisplayName("직렬화된 응답 캐시에 있으면 쿼리 없이 응답, 수정하면 새 내용으로 응답")
+    void getPostFromResponseCache() throws Exception {
+        // given
+        Post post = Post.builder()
+                        .username("test username")
+                        .password("test password")
+                        .title("test title")
+                        .content("test content")
+                        .build();
+        postRepository.save(post);
+        mockMvc.perform(get("/posts/post/{id}", post.getId()))
+               .andExpect(status().isOk());
+
+        // expected
+        mockMvc.perform(get("/posts/post/{id}", post.getId()))
+               .andExpect(status().isOk())
+               .andExpect(header().string("Server-Timing", containsString("desc=\"0 statements\"")))
+               .andExpect(jsonPath("$.title").value("test title"));
+
+        postService.edit(post.getId(), PostEdit.builder()
+                                               .title("update title")
+                                               .content("update content")
+                                               .build());
+
+        mockMvc.perform(get("/posts/post/{id}", post.getId()))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.title").value("update title"))
+               .andExpect(jsonPath("$.content").value("update content"))
+               .andDo(print());
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding에 gzip이 있으면 미리 압축한 본문으로 응답")
+    void getPostGzip() throws Exception {
+        // given
+        Post post = Post.builder()
+                        .username("test username")
+                        .password("test password")
+                        .title("test title")
+                        .content("test content ".repeat(200))
+                        .build();
+        postRepository.save(post);
+
+        // when
+        byte[] body = mockMvc.perform(get("/posts/post/{id}", post.getId())
+                                 .header("Accept-Encoding", "gzip"))
+                             .andExpect(status().isOk())
+                             .andExpect(header().string("Content-Encoding", "gzip"))
+                             .andExpect(header().string("Vary", "Accept, Accept-Encoding"))
+                             .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(objectMapper.readTree(in).get("content").asText()).isEqualTo("test content ".repeat(200));
+        }
+    }
+
+    @Test
+    @DisplayName("글을 작성하면 캐시된 페이지 응답도 새 목록으로 응답")
+    void getPageAfterWrite() throws Exception {
+        // given
+        IntStream.rangeClosed(1, 3).forEach((i) -> {
+            Post post = Post.builder()
+                            .username("username " + i)
+                            .password("password " + i)
+                            .title("title " + i)
+                            .content("content " + i)
+                            .build();
+            postRepository.save(post);
+        });
+        mockMvc.perform(get("/posts/{page}", 1))
+               .andExpect(jsonPath("$[0].title").value("title 3"));
+
+        // when
+        postRepository.save(Post.builder()
+                                .username("username 4")
+                                .password("password 4")
+                                .title("title 4")
+                                .content("content 4")
+                                .build());
+
+        // then
+        mockMvc.perform(get("/posts/{page}", 1))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.length()").value(4))
+               .andExpect(jsonPath("$[0].title").value("title 4"))
+               .andDo(print());
+    }
+
+    @Test
+    @DisplayName("Accept가 application/cbor이면 글 조회를 CBOR로 응답")
+    void getPostCbor() throws Exception {
+        // given
+        Post post = Post.builder()
+                        .username("test username")
+                        .password("test password")
+                        .title("test title")
+                        .content("test content")
+                        .build();
+        postRepository.save(post);
+
+        // when
+        byte[] body = mockMvc.perform(get("/posts/post/{id}", post.getId())
+                                 .accept(APPLICATION_CBOR))
+                             .andExpect(status().isOk())
+                             .andExpect(content().contentType(APPLICATION_CBOR))
+                             .andReturn().getResponse().getContentAsByteArray();
+        String json = mockMvc.perform(get("/posts/post/{id}", post.getId()))
+                             .andExpect(content().contentType(APPLICATION_JSON))
+                             .andReturn().getResponse().getContentAsString();
+
+        // then
+        PostDetail postDetail = new CBORMapper().readValue(body, PostDetail.class);
+        assertThat(postDetail.getId()).isEqualTo(post.getId());
+        assertThat(postDetail.getUsername()).isEqualTo("test username");
+        assertThat(postDetail.getTitle()).isEqualTo("test title");
+        assertThat(postDetail.getContent()).isEqualTo("test content");
+        assertThat(body.length).isLessThan(json.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    @DisplayName("형식, 압축마다 다른 ETag로 응답하고 다른 형식의 ETag로는 304를 응답하지 않음")
+    void getPostETagPerRepresentation() throws Exception {
+        // given
+        Post post = Post.builder()
+                        .username("test username")
+                        .password("test password")
+                        .title("test title")
+                        .content("test content ".repeat(100))
+                        .build();
+        postRepository.save(post);
+        String jsonETag = mockMvc.perform(get("/posts/post/{id}", post.getId()))
+                                 .andReturn().getResponse().getHeader("ETag");
+        String cborETag = mockMvc.perform(get("/posts/post/{id}", post.getId())
+                                     .accept(APPLICATION_CBOR))
+                                 .andReturn().getResponse().getHeader("ETag");
+        String gzipETag = mockMvc.perform(get("/posts/post/{id}", post.getId())
+                                     .header("Accept-Encoding", "gzip"))
+                                 .andExpect(header().string("Content-Encoding", "gzip"))
+                                 .andReturn().getResponse().getHeader("ETag");
+
+        // expected
+        assertThat(jsonETag).isEqualTo("\"" + post.getId() + "-0\"");
+        assertThat(cborETag).isEqualTo("\"" + post.getId() + "-0-cbor\"");
+        assertThat(gzipETag).isEqualTo("\"" + post.getId() + "-0-gzip\"");
+
+        mockMvc.perform(get("/posts/post/{id}", post.getId())
+                   .accept(APPLICATION_CBOR)
+                   .header("If-None-Match", jsonETag))
+               .andExpect(status().isOk())
+               .andExpect(header().string("ETag", cborETag));
+
+        mockMvc.perform(get("/posts/post/{id}", post.getId())
+                   .header("If-None-Match", gzipETag))
+               .andExpect(status().isOk())
+               .andExpect(header().string("ETag", jsonETag));
+
+        mockMvc.perform(get("/posts/post/{id}", post.getId())
+                   .accept(APPLICATION_CBOR)
+                   .header("If-None-Match", cborETag))
+               .andExpect(status().isNotModified())
+               .andExpect(header().string("Vary", "Accept, Accept-Encoding"));
+    }
+
+    @Test
+    @DisplayName("Accept에 따라 형식이 달라지는 메시지 컨버터 응답에 Vary: Accept 추가")
+    void varyAccept() throws Exception {
+        // given
+        Post post = Post.builder()
+                        .username("test username")
+                        .password("test password")
+                        .title("test title")
+                        .content("test content")
+                        .build();
+        postRepository.save(post);
+
+        // expected
+        mockMvc.perform(get("/posts/cursor")
+                   .accept(APPLICATION_CBOR))
+               .andExpect(status().isOk())
+               .andExpect(content().contentType(APPLICATION_CBOR))
+               .andExpect(header().stringValues("Vary", hasItem("Accept")));
+        mockMvc.perform(get("/posts/search")
+                   .param("q", "title"))
+               .andExpect(status().isOk())
+               .andExpect(header().stringValues("Vary", hasItem("Accept")));
+        mockMvc.perform(get("/posts/{page}", 1)
+                   .accept(APPLICATION_CBOR))
+               .andExpect(status().isOk())
+               .andExpect(header().string("Vary", "Accept, Accept-Encoding"));
+    }
+
+    @Test
+    @DisplayName("Accept가 application/x-jackson-smile이면 페이지 조회와 검색을 Smile로 응답")
+    void getListSmile() throws Exception {
+        // given
+        IntStream.rangeClosed(1, 3).forEach((i) -> {
+            Post post = Post.builder()
+                            .username("username " + i)
+                            .password("password " + i)
+                            .title("title " + i)
+                            .content("content " + i)
+                            .build();
+            postRepository.save(post);
+        });
+        SmileMapper smileMapper = new SmileMapper();
+
+        // when
+        byte[] page = mockMvc.perform(get("/posts/{page}", 1)
+                                 .accept("application/x-jackson-smile"))
+                             .andExpect(status().isOk())
+                             .andExpect(content().contentType("application/x-jackson-smile"))
+                             .andReturn().getResponse().getContentAsByteArray();
+        byte[] search = mockMvc.perform(get("/posts/search")
+                                   .param("q", "title")
+                                   .accept("application/x-jackson-smile"))
+                               .andExpect(status().isOk())
+                               .andExpect(content().contentType("application/x-jackson-smile"))
+                               .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        PostSummary[] pageSummaries = smileMapper.readValue(page, PostSummary[].class);
+        PostSummary[] searchSummaries = smileMapper.readValue(search, PostSummary[].class);
+        assertThat(pageSummaries).extracting(PostSummary::getTitle)
+                                 .containsExactly("title 3", "title 2", "title 1");
+        assertThat(searchSummaries).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식만 Accept에 있으면 406 NOT ACCEPTABLE 응답")
+    void getPostNotAcceptable() throws Exception {
+        // given
+        Post post = Post.builder()
+                        .username("test username")
+                        .password("test password")
+                        .title("test title")
+                        .content("test content")
+                        .build();
+        postRepository.save(post);
+
+        // expected
+        mockMvc.perform(get("/posts/post/{id}", post.getId())
+                   .accept(TEXT_PLAIN))
+               .andExpect(status().isNotAcceptable())
+               .andDo(print());
+    }
+
+    @Test
+    @DisplayName("ETag가 같은 페이지 조회는 304 NOT MODIFIED 응답")
+    void getListNotModified() throws Exception {
+        // given
+        IntStream.rangeClosed(1, 15).forEach((i) -> {
+            Post post = Post.builder()
+                            .username("username " + i)
+                            .password("password " + i)
+                            .title("title " + i)
+                            .content("content " + i)
+                            .build();
+            postRepository.save(post);
+        });
+        String eTag = mockMvc.perform(get("/posts/{page}", 2))
+                             .andExpect(status().isOk())
+                             .andReturn().getResponse().getHeader("ETag");
+
+        // expected
+        mockMvc.perform(get("/posts/{page}", 2)
+                   .header("If-None-Match", eTag))
+               .andExpect(status().isNotModified())
+               .andDo(print());
+        mockMvc.perform(get("/posts/{page}", 1)
+                   .header("If-None-Match", eTag))
+               .andExpect(status().isOk())
+               .andDo(print());
+    }
+
     @Test
     @DisplayName("존재하지 않는 글 조회로 404 NOT FOUND 응답")
     void getPostException() throws Exception {
@@ -146,11 +655,46 @@ class PostControllerTest {
                                      .build();
         String json = objectMapper.writeValueAsString(request);
 
-        // expected
-        mockMvc.perform(post("/posts/post")
-                   .contentType(APPLICATION_JSON)
-                   .content(json))
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/posts/post")
+                                         .contentType(APPLICATION_JSON)
+                                         .content(json))
+                                     .andExpect(request().asyncStarted())
+                                     .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+               .andExpect(status().isCreated())
+               .andExpect(jsonPath("$.id").exists())
+               .andDo(print());
+    }
+
+    @Test
+    @DisplayName("/posts/post/batch에 POST 요청으로 글 여러개 작성")
+    void writePosts() throws Exception {
+        // given
+        List<PostWrite> requests = IntStream.rangeClosed(1, 3)
+                                            .mapToObj(i -> PostWrite.builder()
+                                                                    .username("username " + i)
+                                                                    .rawPassword("password " + i)
+                                                                    .title("title " + i)
+                                                                    .content("content " + i)
+                                                                    .build())
+                                            .toList();
+        String json = objectMapper.writeValueAsString(requests);
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/posts/post/batch")
+                                         .contentType(APPLICATION_JSON)
+                                         .content(json))
+                                     .andExpect(request().asyncStarted())
+                                     .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
                .andExpect(status().isCreated())
+               .andExpect(jsonPath("$.length()").value(3))
+               .andExpect(jsonPath("$[0].id").exists())
                .andDo(print());
     }
 
@@ -182,6 +726,73 @@ class PostControllerTest {
                .andDo(print());
     }
 
+    @Test
+    @DisplayName("If-Match가 현재 버전이면 수정, 이전 버전이면 412 PRECONDITION FAILED 응답")
+    void updatePostIfMatch() throws Exception {
+        // given
+        Post post = Post.builder()
+                        .username("test username")
+                        .password("test password")
+                        .title("test title")
+                        .content("test content")
+                        .build();
+        postRepository.save(post);
+        String eTag = mockMvc.perform(get("/posts/post/{id}", post.getId()))
+                             .andReturn().getResponse().getHeader("ETag");
+        String json = objectMapper.writeValueAsString(PostEdit.builder()
+                                                              .title("update title")
+                                                              .content("update content")
+                                                              .build());
+
+        // expected
+        String newETag = mockMvc.perform(patch("/posts/post/{id}", post.getId())
+                                    .header("If-Match", eTag)
+                                    .contentType(APPLICATION_JSON)
+                                    .content(json))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", not(eTag)))
+                                .andDo(print())
+                                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(patch("/posts/post/{id}", post.getId())
+                   .header("If-Match", eTag)
+                   .contentType(APPLICATION_JSON)
+                   .content(json))
+               .andExpect(status().isPreconditionFailed())
+               .andDo(print());
+
+        mockMvc.perform(get("/posts/post/{id}", post.getId()))
+               .andExpect(header().string("ETag", newETag));
+    }
+
+    @Test
+    @DisplayName("CBOR 응답의 ETag로도 If-Match 수정")
+    void updatePostIfMatchCbor() throws Exception {
+        // given
+        Post post = Post.builder()
+                        .username("test username")
+                        .password("test password")
+                        .title("test title")
+                        .content("test content")
+                        .build();
+        postRepository.save(post);
+        String eTag = mockMvc.perform(get("/posts/post/{id}", post.getId())
+                                 .accept(APPLICATION_CBOR))
+                             .andReturn().getResponse().getHeader("ETag");
+        String json = objectMapper.writeValueAsString(PostEdit.builder()
+                                                              .title("update title")
+                                                              .content("update content")
+                                                              .build());
+
+        // expected
+        mockMvc.perform(patch("/posts/post/{id}", post.getId())
+                   .header("If-Match", eTag)
+                   .contentType(APPLICATION_JSON)
+                   .content(json))
+               .andExpect(status().isOk())
+               .andDo(print());
+    }
+
     @Test
     @DisplayName("존재하지 않는 글 수정으로 404 NOT FOUND 응답")
     void updatePostException() throws Exception {
@@ -219,6 +830,30 @@ class PostControllerTest {
                .andDo(print());
     }
 
+    @Test
+    @DisplayName("응답마다 SQL 수와 DB, 해싱, 직렬화 시간을 Server-Timing 헤더로 응답")
+    void serverTiming() throws Exception {
+        // given
+        Post post = Post.builder()
+                        .username("test username")
+                        .password("test password")
+                        .title("test title")
+                        .content("test content")
+                        .build();
+        postRepository.save(post);
+
+        // expected
+        mockMvc.perform(get("/posts/cursor"))
+               .andExpect(status().isOk())
+               .andExpect(header().string("Server-Timing", containsString("desc=\"1 statements\"")))
+               .andExpect(header().string("Server-Timing", containsString("serialization;dur=")))
+               .andExpect(header().string("Server-Timing", containsString("total;dur=")));
+        mockMvc.perform(delete("/posts/post/{id}", post.getId()))
+               .andExpect(status().isOk())
+               .andExpect(header().string("Server-Timing", containsString("desc=\"1 statements\"")))
+               .andDo(print());
+    }
+
     @Test
     @DisplayName("존재하지 않는 글 삭제로 404 NOT FOUND 응답")
     void deletePostException() throws Exception {
@@ -245,9 +880,14 @@ class PostControllerTest {
         String rawPassword = "test password";
 
         // when
-        mockMvc.perform(post("/posts/post/check/{id}", id)
-                   .contentType(APPLICATION_JSON)
-                   .content(rawPassword))
+        MvcResult mvcResult = mockMvc.perform(post("/posts/post/check/{id}", id)
+                                         .contentType(APPLICATION_JSON)
+                                         .content(rawPassword))
+                                     .andExpect(request().asyncStarted())
+                                     .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
                .andExpect(status().isOk())
                .andDo(print());
     }
@@ -268,9 +908,14 @@ class PostControllerTest {
         String rawPassword = "incorrect password";
 
         // when
-        mockMvc.perform(post("/posts/post/check/{id}", id)
-                   .contentType(APPLICATION_JSON)
-                   .content(rawPassword))
+        MvcResult mvcResult = mockMvc.perform(post("/posts/post/check/{id}", id)
+                                         .contentType(APPLICATION_JSON)
+                                         .content(rawPassword))
+                                     .andExpect(request().asyncStarted())
+                                     .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
                .andExpect(status().isUnauthorized())
                .andDo(print());
     }
@@ -0,0 +1,47 @@
+package com.posts.datasource;
+
+import com.posts.domain.Post;
+import com.posts.repository.PostRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * application.properties의 기본 primary, replica 주소로 라우팅을 켜도 replica 조회가 동작하는지 확인
+ */
+@SpringBootTest(properties = "post.datasource.routing.enabled=true")
+class DefaultReplicaConfigTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void clean() {
+        postRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("기본 설정의 replica는 primary 스키마를 그대로 조회")
+    void readFromDefaultReplica() {
+        // given
+        Post post = postRepository.save(Post.builder()
+                                            .username("username")
+                                            .password("password")
+                                            .title("title")
+                                            .content("content")
+                                            .build());
+
+        // expected
+        assertThat(postRepository.findById(post.getId()))
+                .hasValueSatisfying(found -> assertThat(found.getTitle()).isEqualTo("title"));
+        assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", "replica-0").gauge()).isNotNull();
+    }
+}
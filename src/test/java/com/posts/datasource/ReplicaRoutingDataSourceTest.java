@@ -0,0 +1,217 @@
+package com.posts.datasource;
+
+import com.posts.domain.Post;
+import com.posts.repository.PostRepository;
+import com.posts.request.PostEdit;
+import com.posts.service.PostCounter;
+import com.posts.service.PostService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.servlet.http.Cookie;
+import java.sql.Connection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 인메모리 H2 여러 개를 primary와 replica로 사용
+ * replica 하나는 존재하지 않는 DB라서 연결에 실패하고, 복제는 테스트가 replicate로 직접 반영
+ */
+@AutoConfigureMockMvc
+@SpringBootTest(properties = {
+        "post.datasource.routing.enabled=true",
+        "post.datasource.primary-url=" + ReplicaRoutingDataSourceTest.PRIMARY_URL,
+        "post.datasource.replica-urls=jdbc:h2:mem:routing-missing;IFEXISTS=TRUE," + ReplicaRoutingDataSourceTest.REPLICA_URL,
+        "spring.jpa.open-in-view=false"
+})
+class ReplicaRoutingDataSourceTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    private final JdbcTemplate primary = new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, "sa", ""));
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostCounter postCounter;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void clean() {
+        postRepository.deleteAll();
+        replicate();
+    }
+
+    /**
+     * primary의 현재 스키마와 데이터를 replica에 그대로 복사
+     */
+    private void replicate() {
+        List<String> script = primary.queryForList("SCRIPT", String.class);
+        replica.execute("DROP ALL OBJECTS");
+        script.forEach(replica::execute);
+    }
+
+    private Post save(String title) {
+        return postRepository.save(Post.builder()
+                                       .username("username")
+                                       .password("password")
+                                       .title(title)
+                                       .content("content")
+                                       .build());
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 연결할 수 있는 replica에서, 쓰기는 primary에서 실행")
+    void routeReadOnly() {
+        // given
+        Post post = save("title");
+        replicate();
+        replica.update("update post set title = 'replica title' where id = ?", post.getId());
+
+        // expected
+        for (int i = 0; i < 4; ++i) {
+            assertThat(postRepository.findById(post.getId()))
+                    .hasValueSatisfying(found -> assertThat(found.getTitle()).isEqualTo("replica title"));
+        }
+        assertThat(primary.queryForObject("select title from post where id = ?", String.class, post.getId()))
+                .isEqualTo("title");
+        assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", "replica-1").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", "primary").gauge()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("replica에 반영되기 전의 글은 primary로 고정했을 때만 조회")
+    void readYourWrites() {
+        // given
+        Post post = save("title");
+
+        // when
+        boolean beforePin = postRepository.findById(post.getId()).isPresent();
+        boolean previous = ReadYourWrites.pin();
+        boolean pinned;
+        try {
+            pinned = postRepository.findById(post.getId()).isPresent();
+        } finally {
+            ReadYourWrites.restore(previous);
+        }
+
+        // then
+        assertThat(beforePin).isFalse();
+        assertThat(pinned).isTrue();
+        assertThat(ReadYourWrites.isPinned()).isFalse();
+    }
+
+    @Test
+    @DisplayName("쓰기 요청 응답의 쿠키를 보내면 replica에 반영되기 전에도 글 목록에 보임")
+    void readYourWritesCookie() throws Exception {
+        // given
+        Post deleted = save("deleted");
+        Post post = save("title");
+
+        // when
+        Cookie cookie = mockMvc.perform(delete("/posts/post/{id}", deleted.getId()))
+                               .andExpect(status().isOk())
+                               .andExpect(cookie().maxAge(ReadYourWritesFilter.COOKIE, 5))
+                               .andReturn().getResponse().getCookie(ReadYourWritesFilter.COOKIE);
+
+        // then
+        mockMvc.perform(get("/posts/cursor"))
+               .andExpect(status().isOk())
+               .andExpect(cookie().doesNotExist(ReadYourWritesFilter.COOKIE))
+               .andExpect(jsonPath("$.posts.length()").value(0));
+        mockMvc.perform(get("/posts/cursor")
+                   .cookie(cookie))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.posts.length()").value(1))
+               .andExpect(jsonPath("$.posts[0].id").value(post.getId()));
+    }
+
+    @Test
+    @DisplayName("수정 후 캐시를 다시 채우는 조회는 replica에 반영되기 전이어도 primary에서 읽어 새 내용을 캐시")
+    void refillAfterEditFromPrimary() throws Exception {
+        // given
+        Post post = save("title");
+        replicate();
+        mockMvc.perform(get("/posts/post/{id}", post.getId()))
+               .andExpect(jsonPath("$.title").value("title"));
+
+        // when
+        postService.edit(post.getId(), PostEdit.builder()
+                                               .title("update title")
+                                               .content("update content")
+                                               .build());
+
+        // then
+        mockMvc.perform(get("/posts/post/{id}", post.getId()))
+               .andExpect(status().isOk())
+               .andExpect(cookie().doesNotExist(ReadYourWritesFilter.COOKIE))
+               .andExpect(jsonPath("$.title").value("update title"))
+               .andExpect(jsonPath("$.content").value("update content"));
+        assertThat(replica.queryForObject("select title from post where id = ?", String.class, post.getId()))
+                .isEqualTo("title");
+    }
+
+    @Test
+    @DisplayName("전체 글 수 보정은 replica에 반영되기 전이어도 primary의 count로 맞춤")
+    void reconcileFromPrimary() {
+        // given
+        save("title");
+        save("title");
+
+        // when
+        postCounter.reconcile();
+
+        // then
+        assertThat(replica.queryForObject("select count(*) from post", Long.class)).isZero();
+        assertThat(postCounter.get()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("사용자를 지정해 커넥션을 얻어도 연결할 수 없는 replica는 건너뛰고 primary로 넘어감")
+    void failoverWithCredentials() throws Exception {
+        // given
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                new DriverManagerDataSource(PRIMARY_URL),
+                List.of(new DriverManagerDataSource("jdbc:h2:mem:routing-missing;IFEXISTS=TRUE")));
+        routing.afterPropertiesSet();
+        routing.startRouting();
+
+        // when
+        String url;
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try (Connection connection = routing.getConnection("sa", "")) {
+            url = connection.getMetaData().getURL();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+
+        // then
+        assertThat(url).contains("routing-primary");
+    }
+}
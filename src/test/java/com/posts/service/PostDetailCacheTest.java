@@ -0,0 +1,56 @@
+package com.posts.service;
+
+import com.posts.event.PostChangedEvent;
+import com.posts.response.PostDetail;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PostDetailCacheTest {
+
+    private static PostDetail detail(Long id, int contentLength) {
+        return PostDetail.builder()
+                         .id(id)
+                         .username("username")
+                         .title("title")
+                         .content("c".repeat(contentLength))
+                         .build();
+    }
+
+    @Test
+    @DisplayName("내용 크기 합계가 용량을 넘으면 제거")
+    void evictByBytes() {
+        // given
+        PostDetailCache cache = new PostDetailCache(100_000L, new SimpleMeterRegistry());
+
+        // when
+        LongStream.rangeClosed(1, 20).forEach(id -> cache.get(id, key -> detail(key, 10_000)));
+        cache.cleanUp();
+
+        // then
+        assertThat(cache.stats().evictionCount()).isPositive();
+        assertThat(cache.stats().evictionWeight()).isPositive();
+    }
+
+    @Test
+    @DisplayName("수정 이벤트를 받으면 해당 글만 제거")
+    void invalidate() {
+        // given
+        PostDetailCache cache = new PostDetailCache(100_000L, new SimpleMeterRegistry());
+        cache.get(1L, key -> detail(key, 10));
+        cache.get(2L, key -> detail(key, 10));
+
+        // when
+        cache.onPostChanged(PostChangedEvent.updated(1L, "username", "edited title", "edited content"));
+        PostDetail reloaded = cache.get(1L, key -> detail(key, 20));
+        PostDetail cached = cache.get(2L, key -> detail(key, 20));
+
+        // then
+        assertThat(reloaded.getContent()).hasSize(20);
+        assertThat(cached.getContent()).hasSize(10);
+    }
+}
@@ -0,0 +1,117 @@
+package com.posts.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.posts.repository.PostRepository;
+import com.posts.response.PostImportResult;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Slf4j
+@SpringBootTest(properties = {"post.import.batch-size=3", "post.import.max-errors=2"})
+class PostImporterTest {
+
+    @Autowired
+    private PostImporter postImporter;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void clean() {
+        postRepository.deleteAll();
+    }
+
+    private static String line(int i) {
+        return "{\"username\":\"username " + i + "\",\"rawPassword\":\"password " + i + "\","
+                + "\"title\":\"title " + i + "\",\"content\":\"content " + i + "\"}";
+    }
+
+    @Test
+    @DisplayName("여러 묶음으로 나눠 저장")
+    void importFrom() throws IOException {
+        // given
+        String ndjson = IntStream.rangeClosed(1, 10)
+                                 .mapToObj(PostImporterTest::line)
+                                 .collect(Collectors.joining("\n"));
+
+        // when
+        PostImportResult result = postImporter.importFrom(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(result.getImported()).isEqualTo(10L);
+        assertThat(result.getFailed()).isZero();
+        assertThat(postRepository.count()).isEqualTo(10L);
+
+        log.info("result={}", result);
+    }
+
+    @Test
+    @DisplayName("잘못된 줄은 건너뛰고 줄 번호와 이유를 기록")
+    void importFromWithErrors() throws IOException {
+        // given
+        String ndjson = String.join("\n",
+                                    line(1),
+                                    "{not json",
+                                    "",
+                                    "{\"username\":\"username\"}",
+                                    line(5),
+                                    "[]");
+
+        // when
+        PostImportResult result = postImporter.importFrom(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(result.getImported()).isEqualTo(2L);
+        assertThat(result.getFailed()).isEqualTo(3L);
+        assertThat(result.getErrors()).extracting(PostImportResult.Error::getLine)
+                                      .containsExactly(2L, 4L);
+        assertThat(postRepository.count()).isEqualTo(2L);
+
+        log.info("result={}", result);
+    }
+
+    @Test
+    @DisplayName("비밀번호 암호화가 거절된 묶음은 예외 없이 실패한 줄로 기록")
+    void importFromRejected() throws IOException {
+        // given
+        PasswordHasher rejecting = new PasswordHasher(passwordEncoder, 1, 1, "rejecting-hash-");
+        rejecting.shutdown();
+        PostImporter importer = new PostImporter(postRepository, rejecting, transactionTemplate, objectMapper, 3, 2);
+        String ndjson = IntStream.rangeClosed(1, 7)
+                                 .mapToObj(PostImporterTest::line)
+                                 .collect(Collectors.joining("\n"));
+
+        // when
+        PostImportResult result = importer.importFrom(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(result.getImported()).isZero();
+        assertThat(result.getFailed()).isEqualTo(7L);
+        assertThat(result.getErrors()).extracting(PostImportResult.Error::getMessage)
+                                      .containsOnly("비밀번호 암호화 대기열이 가득 찼습니다.");
+        assertThat(postRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,93 @@
+package com.posts.service;
+
+import com.posts.event.PostChangedEvent;
+import com.posts.repository.PostRepository;
+import com.posts.response.PostSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PostPageSnapshotTest {
+
+    private PostRepository postRepository;
+
+    private PostPageSnapshot postPageSnapshot;
+
+    private static List<PostSummary> summaries(long from, long to) {
+        return LongStream.rangeClosed(from, to)
+                         .map(i -> to - i + from)
+                         .mapToObj(id -> PostSummary.builder()
+                                                    .id(id)
+                                                    .username("username " + id)
+                                                    .title("title " + id)
+                                                    .build())
+                         .toList();
+    }
+
+    @BeforeEach
+    void init() {
+        postRepository = mock(PostRepository.class);
+        postPageSnapshot = new PostPageSnapshot(postRepository, 2, 2);
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때만 DB에서 목록을 만듦")
+    void buildOnce() {
+        // given
+        when(postRepository.findSummaries(any(Pageable.class))).thenReturn(new SliceImpl<>(summaries(1, 4)));
+
+        // when
+        List<PostSummary> page1 = postPageSnapshot.getPage(1);
+        List<PostSummary> page2 = postPageSnapshot.getPage(2);
+
+        // then
+        assertThat(page1).extracting(PostSummary::getId).containsExactly(4L, 3L);
+        assertThat(page2).extracting(PostSummary::getId).containsExactly(2L, 1L);
+        verify(postRepository, times(1)).findSummaries(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("작성, 제목 수정은 DB 조회 없이 반영")
+    void applyChanges() {
+        // given
+        when(postRepository.findSummaries(any(Pageable.class))).thenReturn(new SliceImpl<>(summaries(1, 4)));
+        postPageSnapshot.getPage(1);
+
+        // when
+        postPageSnapshot.onPostChanged(PostChangedEvent.created(5L, "username 5", "title 5", "content 5"));
+        postPageSnapshot.onPostChanged(PostChangedEvent.updated(3L, "username 3", "edited title", "content 3"));
+
+        // then
+        assertThat(postPageSnapshot.getPage(1)).extracting(PostSummary::getId).containsExactly(5L, 4L);
+        assertThat(postPageSnapshot.getPage(2)).extracting(PostSummary::getTitle).containsExactly("edited title", "title 2");
+        verify(postRepository, times(1)).findSummaries(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("가득 찬 목록에서 삭제하면 다음 조회 때 다시 만듦")
+    void rebuildAfterDelete() {
+        // given
+        when(postRepository.findSummaries(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(summaries(1, 4)))
+                .thenReturn(new SliceImpl<>(summaries(0, 4).stream()
+                                                           .filter(postSummary -> postSummary.getId() != 3L)
+                                                           .toList()));
+        postPageSnapshot.getPage(1);
+
+        // when
+        postPageSnapshot.onPostChanged(PostChangedEvent.deleted(3L));
+
+        // then
+        assertThat(postPageSnapshot.getPage(2)).extracting(PostSummary::getId).containsExactly(1L, 0L);
+        verify(postRepository, times(2)).findSummaries(any(Pageable.class));
+    }
+}
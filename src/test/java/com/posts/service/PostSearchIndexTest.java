@@ -0,0 +1,117 @@
+package com.posts.service;
+
+import com.posts.event.PostChangedEvent;
+import com.posts.repository.PostRepository;
+import com.posts.response.PostExport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PostSearchIndexTest {
+
+    private PostRepository postRepository;
+
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void init() {
+        postRepository = mock(PostRepository.class);
+        postSearchIndex = new PostSearchIndex(postRepository, mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    @DisplayName("소문자로 바꾸고 글자, 숫자가 아닌 문자로 나눔")
+    void tokenize() {
+        // expected
+        assertThat(PostSearchIndex.tokenize("Hello, World! 안녕 하세요 spring-boot3"))
+                .containsExactly("hello", "world", "안녕", "하세요", "spring", "boot3");
+        assertThat(PostSearchIndex.tokenize("  ,.! ")).isEmpty();
+        assertThat(PostSearchIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("시작할 때 DB의 전체 글로 색인 생성")
+    void rebuild() {
+        // given
+        when(postRepository.streamExport()).thenReturn(Stream.of(
+                PostExport.builder().id(1L).username("a").title("java").content("spring boot").build(),
+                PostExport.builder().id(2L).username("b").title("kotlin").content("spring").build()));
+
+        // when
+        postSearchIndex.rebuild();
+
+        // then
+        assertThat(postSearchIndex.size()).isEqualTo(2);
+        assertThat(postSearchIndex.search("spring", 0, 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(postSearchIndex.search("kotlin", 0, 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("제목에 나온 단어와 여러 단어가 일치하는 글이 앞에 옴, 점수가 같으면 최신 글 순")
+    void rank() {
+        // given
+        postSearchIndex.onPostChanged(PostChangedEvent.created(1L, "a", "other", "java"));
+        postSearchIndex.onPostChanged(PostChangedEvent.created(2L, "b", "java", "other"));
+        postSearchIndex.onPostChanged(PostChangedEvent.created(3L, "c", "java", "spring"));
+        postSearchIndex.onPostChanged(PostChangedEvent.created(4L, "d", "other", "java"));
+
+        // expected
+        assertThat(postSearchIndex.search("java spring", 0, 10)).containsExactly(3L, 2L, 4L, 1L);
+        assertThat(postSearchIndex.search("java spring", 1, 2)).containsExactly(2L, 4L);
+        assertThat(postSearchIndex.search("JAVA", 0, 10)).containsExactly(3L, 2L, 4L, 1L);
+        assertThat(postSearchIndex.search("python", 0, 10)).isEmpty();
+        assertThat(postSearchIndex.search("", 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정은 기존 단어를 지우고 새 단어로 색인, 삭제는 색인에서 제거")
+    void applyChanges() {
+        // given
+        postSearchIndex.onPostChanged(PostChangedEvent.created(1L, "a", "java", "spring"));
+        postSearchIndex.onPostChanged(PostChangedEvent.created(2L, "b", "java", "jpa"));
+
+        // when
+        postSearchIndex.onPostChanged(PostChangedEvent.updated(1L, null, "kotlin", "spring"));
+        postSearchIndex.onPostChanged(PostChangedEvent.deleted(2L));
+
+        // then
+        assertThat(postSearchIndex.search("java", 0, 10)).isEmpty();
+        assertThat(postSearchIndex.search("jpa", 0, 10)).isEmpty();
+        assertThat(postSearchIndex.search("kotlin spring", 0, 10)).containsExactly(1L);
+        assertThat(postSearchIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("posting list는 id 순서와 관계없이 오름차순으로 유지")
+    void postings() {
+        // given
+        PostSearchIndex.Postings postings = new PostSearchIndex.Postings("term");
+
+        // when
+        postings.add(5L, 1);
+        postings.add(300L, 2);
+        postings.add(1L, 3);
+        postings.add(100_000L, 1);
+        postings.add(300L, 4);
+        boolean removed = postings.remove(5L);
+        boolean notRemoved = postings.remove(6L);
+
+        // then
+        List<long[]> entries = new ArrayList<>();
+        postings.forEach((id, weight) -> entries.add(new long[]{id, weight}));
+        assertThat(entries).containsExactly(new long[]{1L, 3}, new long[]{300L, 4}, new long[]{100_000L, 1});
+        assertThat(postings.count()).isEqualTo(3);
+        assertThat(removed).isTrue();
+        assertThat(notRemoved).isFalse();
+        // id 차이가 작으면 한 바이트, 100000 - 300은 세 바이트
+        assertThat(postings.sizeInBytes()).isEqualTo(2 + 3 + 4);
+    }
+}
@@ -0,0 +1,122 @@
+package com.posts.service;
+
+import com.posts.domain.Post;
+import com.posts.repository.PostRepository;
+import com.posts.request.PostEdit;
+import com.posts.request.PostWrite;
+import com.posts.timing.SqlStatements;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.posts.timing.SqlStatements.assertStatements;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 서비스 메서드마다 실행하는 SQL 문장 수를 고정해서 쿼리가 늘어나는 변경을 잡아냄
+ */
+@SpringBootTest
+class PostServiceQueryBudgetTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private List<Post> posts;
+
+    @BeforeEach
+    void init() {
+        String encodedPassword = passwordEncoder.encode("password");
+        posts = postRepository.saveAll(IntStream.rangeClosed(1, 60)
+                                                .mapToObj(i -> Post.builder()
+                                                                   .username("username " + i)
+                                                                   .password(encodedPassword)
+                                                                   .title("title " + i)
+                                                                   .content("content " + i)
+                                                                   .build())
+                                                .toList());
+    }
+
+    @AfterEach
+    void clean() {
+        postRepository.deleteAll();
+    }
+
+    private Long anyId() {
+        return posts.get(0).getId();
+    }
+
+    @Test
+    @DisplayName("메모리에 있는 앞쪽 페이지 조회는 0개, 뒤쪽 페이지와 커서 조회는 1개")
+    void list() {
+        postService.getList(1);
+
+        assertStatements(0, () -> postService.getList(1));
+        assertStatements(1, () -> postService.getList(5));
+        assertStatements(1, () -> postService.getListByCursor(null));
+        assertStatements(1, () -> postService.getListByUsername("username 1", null));
+    }
+
+    @Test
+    @DisplayName("단건 조회는 처음에 1개, 캐시된 뒤에는 0개")
+    void get() {
+        assertStatements(1, () -> postService.getVersion(anyId()));
+        assertStatements(1, () -> postService.get(anyId()));
+        assertStatements(0, () -> postService.get(anyId()));
+        assertStatements(0, () -> postService.getVersion(anyId()));
+    }
+
+    @Test
+    @DisplayName("검색은 1개, 자동 완성과 개수는 0개")
+    void inMemory() {
+        assertStatements(1, () -> postService.search("title", 1));
+        assertStatements(0, () -> postService.suggest("title"));
+        assertStatements(0, () -> postService.count());
+    }
+
+    @Test
+    @DisplayName("수정은 update 2개, 삭제는 delete 1개")
+    void editAndDelete() {
+        PostEdit request = PostEdit.builder()
+                                   .title("edited title")
+                                   .content("edited content")
+                                   .build();
+
+        assertStatements(2, () -> postService.edit(anyId(), request));
+        assertStatements(2, () -> postService.edit(anyId(), request, 1L));
+        assertStatements(1, () -> postService.delete(anyId()));
+    }
+
+    @Test
+    @DisplayName("작성은 insert 2개와 시퀀스 할당이 필요하면 1개, 여러개 작성도 배치로 묶여 같은 수")
+    void write() {
+        PostWrite request = PostWrite.builder()
+                                     .username("username")
+                                     .rawPassword("password")
+                                     .title("title")
+                                     .content("content")
+                                     .build();
+
+        assertThat(SqlStatements.count(() -> postService.writeAsync(request).join())).isBetween(2, 3);
+        assertThat(SqlStatements.count(() -> postService.writeAllAsync(List.of(request, request, request, request)).join()))
+                .isBetween(2, 3);
+    }
+
+    @Test
+    @DisplayName("비밀번호 확인은 select 1개")
+    void checkPassword() {
+        assertStatements(1, () -> postService.checkPasswordAsync(anyId(), "password").join());
+    }
+}
@@ -2,23 +2,37 @@ package com.posts.service;
 
 
 import com.posts.domain.Post;
+import com.posts.domain.PostContent;
+import com.posts.exception.BatchSizeExceededException;
 import com.posts.exception.IncorrectPasswordException;
+import com.posts.exception.InvalidCursorException;
 import com.posts.exception.NotFoundPostException;
+import com.posts.exception.PostVersionMismatchException;
+import com.posts.repository.PostContentRepository;
 import com.posts.repository.PostRepository;
 import com.posts.request.PostEdit;
 import com.posts.request.PostWrite;
+import com.posts.response.PostCursorPage;
 import com.posts.response.PostDetail;
 import com.posts.response.PostSummary;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -35,6 +49,21 @@ class PostServiceTest {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private PostContentRepository postContentRepository;
+
+    @Autowired
+    private PostDetailCache postDetailCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @AfterEach
     void clean() {
         postRepository.deleteAll();
@@ -61,6 +90,89 @@ class PostServiceTest {
         log.info("postId={}", postId);
     }
 
+    @Test
+    @DisplayName("비밀번호 암호화를 전용 스레드 풀에서 실행하고 저장은 해싱 스레드 밖에서 하는 게시글 작성")
+    void writeAsync() {
+        // given
+        PostWrite request = PostWrite.builder()
+                .username("test username")
+                .rawPassword("test password")
+                .title("test title")
+                .content("test content")
+                .build();
+
+        // when
+        Long postId = postService.writeAsync(request).join();
+        String completedOn = postService.writeAsync(request)
+                                        .thenApply(id -> Thread.currentThread().getName())
+                                        .join();
+
+        // then
+        Post post = postRepository.findById(postId).get();
+        assertThat(passwordEncoder.matches("test password", post.getPassword())).isTrue();
+        assertThat(completedOn).doesNotStartWith("password-hash-");
+    }
+
+    @Test
+    @DisplayName("게시글 여러개 작성")
+    void writeAll() {
+        // given
+        List<PostWrite> requests = IntStream.rangeClosed(1, 120)
+                .mapToObj(i -> PostWrite.builder()
+                        .username("test username " + i)
+                        .rawPassword("test password " + i)
+                        .title("test title " + i)
+                        .content("test content " + i)
+                        .build())
+                .toList();
+
+        // when
+        List<Long> postIds = postService.writeAllAsync(requests).join();
+
+        // then
+        assertThat(postIds).hasSize(120);
+        assertThat(postRepository.count()).isEqualTo(120L);
+        Post last = postRepository.findById(postIds.get(119)).get();
+        assertThat(last.getTitle()).isEqualTo("test title 120");
+        assertThat(passwordEncoder.matches("test password 120", last.getPassword())).isTrue();
+    }
+
+    @Test
+    @DisplayName("글 여러개 작성의 저장은 해싱 스레드 밖에서 실행")
+    void writeAllSavesOffHashPool() {
+        // given
+        List<PostWrite> requests = IntStream.rangeClosed(1, 3)
+                .mapToObj(i -> PostWrite.builder()
+                        .username("test username " + i)
+                        .rawPassword("test password " + i)
+                        .title("test title " + i)
+                        .content("test content " + i)
+                        .build())
+                .toList();
+
+        // when
+        String completedOn = postService.writeAllAsync(requests)
+                                        .thenApply(ids -> Thread.currentThread().getName())
+                                        .join();
+
+        // then
+        assertThat(completedOn).doesNotStartWith("password-hash-");
+        assertThat(postRepository.count()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("한 번에 작성할 수 있는 개수를 넘으면 예외 발생")
+    void writeAllException() {
+        // given
+        List<PostWrite> requests = IntStream.rangeClosed(1, 1_001)
+                .mapToObj(i -> PostWrite.builder().build())
+                .toList();
+
+        // expected
+        assertThatThrownBy(() -> postService.writeAllAsync(requests))
+                .isInstanceOf(BatchSizeExceededException.class);
+    }
+
     @Test
     @DisplayName("게시글 단건 조회")
     void get() {
@@ -85,6 +197,101 @@ class PostServiceTest {
         log.info("response={}", response);
     }
 
+    @Test
+    @DisplayName("같은 글을 다시 조회하면 캐시에서 리턴")
+    void getCached() {
+        // given
+        Post post = Post.builder()
+                .username("test username")
+                .password("test password")
+                .title("test title")
+                .content("test content")
+                .build();
+        postRepository.save(post);
+        long hitsBefore = postDetailCache.stats().hitCount();
+
+        // when
+        PostDetail first = postService.get(post.getId());
+        PostDetail second = postService.get(post.getId());
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(postDetailCache.stats().hitCount()).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("수정, 삭제한 글은 캐시에서 제거")
+    void getCacheInvalidated() {
+        // given
+        PostWrite request = PostWrite.builder()
+                .username("test username")
+                .rawPassword("test password")
+                .title("test title")
+                .content("test content")
+                .build();
+        Long postId = postService.write(request);
+        postService.get(postId);
+
+        // when
+        postService.edit(postId, PostEdit.builder()
+                .title("edited title")
+                .content("edited content")
+                .build());
+        PostDetail edited = postService.get(postId);
+        postService.delete(postId);
+
+        // then
+        assertThat(edited.getTitle()).isEqualTo("edited title");
+        assertThat(edited.getContent()).isEqualTo("edited content");
+        assertThatThrownBy(() -> postService.get(postId))
+                .isInstanceOf(NotFoundPostException.class);
+    }
+
+    @Test
+    @DisplayName("글 엔티티를 조회할 때 내용은 읽지 않음")
+    void contentLazyLoaded() {
+        // given
+        Post post = Post.builder()
+                .username("test username")
+                .password("test password")
+                .title("test title")
+                .content("test content")
+                .build();
+        postRepository.save(post);
+
+        // expected
+        transactionTemplate.executeWithoutResult(status -> {
+            Post found = postRepository.findById(post.getId()).get();
+            assertThat(entityManagerFactory.getPersistenceUnitUtil().isLoaded(found, "postContent")).isFalse();
+            assertThat(found.getContent()).isEqualTo("test content");
+        });
+    }
+
+    @Test
+    @DisplayName("압축 기준보다 큰 내용 작성, 수정 후 조회")
+    void largeContent() {
+        // given
+        PostWrite request = PostWrite.builder()
+                .username("test username")
+                .rawPassword("test password")
+                .title("test title")
+                .content("긴 내용 ".repeat(2_000))
+                .build();
+        Long postId = postService.write(request);
+
+        // when
+        PostDetail written = postService.get(postId);
+        postService.edit(postId, PostEdit.builder()
+                .title("edited title")
+                .content("수정한 긴 내용 ".repeat(2_000))
+                .build());
+        PostDetail edited = postService.get(postId);
+
+        // then
+        assertThat(written.getContent()).isEqualTo("긴 내용 ".repeat(2_000));
+        assertThat(edited.getContent()).isEqualTo("수정한 긴 내용 ".repeat(2_000));
+    }
+
     @Test
     @DisplayName("존재하지 않는 id 조회로 예외 발생")
     void getException() {
@@ -118,6 +325,111 @@ class PostServiceTest {
         log.info("list2[0]={}", list2.get(0));
     }
 
+    @Test
+    @DisplayName("커서로 글 여러개 조회")
+    void getListByCursor() {
+        // given
+        for (int i = 1; i <= 15; ++i) {
+            Post post = Post.builder()
+                    .username("test username " + i)
+                    .password("password" + i)
+                    .title("test title " + i)
+                    .content("test content " + i)
+                    .build();
+            postRepository.save(post);
+        }
+
+        // when
+        PostCursorPage page1 = postService.getListByCursor(null);
+        PostCursorPage page2 = postService.getListByCursor(page1.getNextCursor());
+
+        // then
+        assertThat(page1.getPosts().size()).isEqualTo(10);
+        assertThat(page1.getPosts().get(0).getTitle()).isEqualTo("test title 15");
+        assertThat(page1.getNextCursor()).isNotNull();
+        assertThat(page2.getPosts().size()).isEqualTo(5);
+        assertThat(page2.getPosts().get(0).getTitle()).isEqualTo("test title 5");
+        assertThat(page2.getNextCursor()).isNull();
+
+        log.info("page1={}", page1);
+        log.info("page2={}", page2);
+    }
+
+    @Test
+    @DisplayName("작성자의 글만 커서로 조회")
+    void getListByUsername() {
+        // given
+        for (int i = 1; i <= 30; ++i) {
+            Post post = Post.builder()
+                    .username(i % 2 == 0 ? "even" : "odd")
+                    .password("password" + i)
+                    .title("test title " + i)
+                    .content("test content " + i)
+                    .build();
+            postRepository.save(post);
+        }
+
+        // when
+        PostCursorPage page1 = postService.getListByUsername("even", null);
+        PostCursorPage page2 = postService.getListByUsername("even", page1.getNextCursor());
+        PostCursorPage none = postService.getListByUsername("nobody", null);
+
+        // then
+        assertThat(page1.getPosts()).hasSize(10)
+                                    .allMatch(postSummary -> postSummary.getUsername().equals("even"));
+        assertThat(page1.getPosts().get(0).getTitle()).isEqualTo("test title 30");
+        assertThat(page2.getPosts()).extracting(PostSummary::getTitle)
+                                    .containsExactly("test title 10", "test title 8", "test title 6", "test title 4", "test title 2");
+        assertThat(page2.getNextCursor()).isNull();
+        assertThat(none.getPosts()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("작성자 글 목록 조회는 (username, id) 인덱스 사용")
+    void getListByUsernameUsesIndex() {
+        // when
+        String plan = jdbcTemplate.queryForObject(
+                "explain select id, username, title from post where username = 'even' and id < 100 order by id desc",
+                String.class);
+
+        // then
+        assertThat(plan).containsIgnoringCase("idx_post_username_id");
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 예외 발생")
+    void getListByCursorException() {
+        // expected
+        assertThatThrownBy(() -> postService.getListByCursor("invalid cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("전체 글을 한 줄에 하나씩 내보내기")
+    void export() throws IOException {
+        // given
+        for (int i = 1; i <= 15; ++i) {
+            Post post = Post.builder()
+                    .username("test username " + i)
+                    .password("password" + i)
+                    .title("test title " + i)
+                    .content("test content " + i)
+                    .build();
+            postRepository.save(post);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        postService.export(out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(15);
+        assertThat(lines[0]).contains("\"title\":\"test title 1\"", "\"content\":\"test content 1\"")
+                            .doesNotContain("password");
+        assertThat(out.toString(StandardCharsets.UTF_8)).endsWith("}\n");
+    }
+
     @Test
     @DisplayName("작성된 글의 제목과 내용 수정")
     void edit() {
@@ -141,12 +453,67 @@ class PostServiceTest {
 
         // then
         Post editedPost = postRepository.findById(postId).get();
+        PostContent editedContent = postContentRepository.findById(postId).get();
         assertThat(editedPost.getTitle()).isEqualTo("edited title");
-        assertThat(editedPost.getContent()).isEqualTo("edited content");
+        assertThat(editedContent.getContent()).isEqualTo("edited content");
 
         log.info("editedPost={}", editedPost);
     }
 
+    @Test
+    @DisplayName("글 수정 시 버전 증가")
+    void versionIncreased() {
+        // given
+        Post post = Post.builder()
+                .username("test username")
+                .password("test password")
+                .title("test title")
+                .content("test content")
+                .build();
+        postRepository.save(post);
+        Long before = postService.getVersion(post.getId());
+
+        // when
+        postService.edit(post.getId(), PostEdit.builder()
+                .title("edited title")
+                .content("edited content")
+                .build());
+
+        // then
+        assertThat(postService.getVersion(post.getId())).isEqualTo(before + 1);
+        assertThat(postService.get(post.getId()).getVersion()).isEqualTo(before + 1);
+        assertThatThrownBy(() -> postService.getVersion(1_000L))
+                .isInstanceOf(NotFoundPostException.class);
+    }
+
+    @Test
+    @DisplayName("버전이 다른 글 수정으로 예외 발생")
+    void editVersionMismatch() {
+        // given
+        Post post = Post.builder()
+                .username("test username")
+                .password("test password")
+                .title("test title")
+                .content("test content")
+                .build();
+        postRepository.save(post);
+        Long version = postService.getVersion(post.getId());
+        PostEdit postEdit = PostEdit.builder()
+                .title("edited title")
+                .content("edited content")
+                .build();
+
+        // when
+        postService.edit(post.getId(), postEdit, version);
+
+        // then
+        assertThatThrownBy(() -> postService.edit(post.getId(), postEdit, version))
+                .isInstanceOf(PostVersionMismatchException.class);
+        assertThatThrownBy(() -> postService.edit(1_000L, postEdit, version))
+                .isInstanceOf(NotFoundPostException.class);
+        assertThat(postService.getVersion(post.getId())).isEqualTo(version + 1);
+    }
+
     @Test
     @DisplayName("존재하지 않는 글 수정으로 예외 발생")
     void editException() {
@@ -189,6 +556,63 @@ class PostServiceTest {
                 .isInstanceOf(NotFoundPostException.class);
     }
 
+    @Test
+    @DisplayName("제목과 내용 검색, 수정과 삭제 반영")
+    void search() {
+        // given
+        Long javaId = postService.write(PostWrite.builder()
+                                                 .username("username 1")
+                                                 .rawPassword("password 1")
+                                                 .title("java title")
+                                                 .content("spring content")
+                                                 .build());
+        Long springId = postService.write(PostWrite.builder()
+                                                   .username("username 2")
+                                                   .rawPassword("password 2")
+                                                   .title("spring title")
+                                                   .content("jpa content")
+                                                   .build());
+
+        // when
+        List<PostSummary> bySpring = postService.search("spring", 1);
+        postService.edit(javaId, PostEdit.builder()
+                                         .title("kotlin title")
+                                         .content("kotlin content")
+                                         .build());
+        postService.delete(springId);
+
+        // then
+        assertThat(bySpring).extracting(PostSummary::getId).containsExactly(springId, javaId);
+        assertThat(bySpring.get(0).getTitle()).isEqualTo("spring title");
+        assertThat(postService.search("spring", 1)).isEmpty();
+        assertThat(postService.search("kotlin", 1)).extracting(PostSummary::getId).containsExactly(javaId);
+        assertThat(postService.search("kotlin", 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("글 작성, 삭제 시 전체 글 개수 갱신")
+    void count() {
+        // given
+        long before = postService.count();
+        PostWrite request = PostWrite.builder()
+                .username("test username")
+                .rawPassword("test password")
+                .title("test title")
+                .content("test content")
+                .build();
+
+        // when
+        Long postId = postService.write(request);
+        long afterWrite = postService.count();
+        postService.delete(postId);
+        long afterDelete = postService.count();
+
+        // then
+        assertThat(afterWrite).isEqualTo(before + 1);
+        assertThat(afterDelete).isEqualTo(before);
+        assertThat(afterDelete).isEqualTo(postRepository.count());
+    }
+
     @Test
     @DisplayName("일치하는 비밀번호")
     void correctPassword() {
@@ -228,6 +652,28 @@ class PostServiceTest {
                 .isInstanceOf(IncorrectPasswordException.class);
     }
 
+    @Test
+    @DisplayName("전용 스레드 풀에서 비밀번호 확인")
+    void checkPasswordAsync() {
+        // given
+        Post post = Post.builder()
+                .username("test username")
+                .password(passwordEncoder.encode("test password"))
+                .title("test title")
+                .content("test content")
+                .build();
+        postRepository.save(post);
+
+        // when
+        CompletableFuture<Void> correct = postService.checkPasswordAsync(post.getId(), "test password");
+        CompletableFuture<Void> incorrect = postService.checkPasswordAsync(post.getId(), "incorrect password");
+
+        // then
+        assertThatCode(correct::join).doesNotThrowAnyException();
+        assertThatThrownBy(incorrect::join)
+                .hasCauseInstanceOf(IncorrectPasswordException.class);
+    }
+
     @Test
     @DisplayName("id를 Map형식으로 변환")
     void convertId() {
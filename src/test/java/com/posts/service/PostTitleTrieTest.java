@@ -0,0 +1,135 @@
+package com.posts.service;
+
+import com.posts.event.PostChangedEvent;
+import com.posts.repository.PostRepository;
+import com.posts.response.PostSuggestion;
+import com.posts.response.PostSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PostTitleTrieTest {
+
+    private PostRepository postRepository;
+
+    private PostTitleTrie postTitleTrie;
+
+    @BeforeEach
+    void init() {
+        postRepository = mock(PostRepository.class);
+        postTitleTrie = new PostTitleTrie(postRepository, mock(PlatformTransactionManager.class), 3);
+    }
+
+    private void write(long id, String title) {
+        postTitleTrie.onPostChanged(PostChangedEvent.created(id, "username", title, "content"));
+    }
+
+    private List<Long> suggestIds(String prefix) {
+        return postTitleTrie.suggest(prefix)
+                            .stream()
+                            .map(PostSuggestion::getId)
+                            .toList();
+    }
+
+    @Test
+    @DisplayName("시작할 때 DB의 전체 제목으로 생성")
+    void rebuild() {
+        // given
+        when(postRepository.streamSummaries()).thenReturn(Stream.of(
+                PostSummary.builder().id(1L).username("a").title("Spring Boot").build(),
+                PostSummary.builder().id(2L).username("b").title("Spring Data").build()));
+
+        // when
+        postTitleTrie.rebuild();
+
+        // then
+        assertThat(postTitleTrie.size()).isEqualTo(2);
+        assertThat(postTitleTrie.suggest("spring b")).extracting(PostSuggestion::getTitle)
+                                                      .containsExactly("Spring Boot");
+    }
+
+    @Test
+    @DisplayName("접두사가 일치하는 최신 글 최대 size개, 대소문자 구분 없음")
+    void suggest() {
+        // given
+        write(1L, "java");
+        write(2L, "javascript");
+        write(3L, "jpa");
+        write(4L, "Java 17");
+        write(5L, "kotlin");
+        write(6L, "java");
+
+        // expected
+        assertThat(suggestIds("j")).containsExactly(6L, 4L, 3L);
+        assertThat(suggestIds("JAVA")).containsExactly(6L, 4L, 2L);
+        assertThat(suggestIds("javas")).containsExactly(2L);
+        assertThat(suggestIds("java ")).containsExactly(4L);
+        assertThat(suggestIds("jav")).containsExactly(6L, 4L, 2L);
+        assertThat(suggestIds("javax")).isEmpty();
+        assertThat(suggestIds("python")).isEmpty();
+        assertThat(suggestIds("")).isEmpty();
+        assertThat(postTitleTrie.suggest("java 1").get(0).getTitle()).isEqualTo("Java 17");
+    }
+
+    @Test
+    @DisplayName("삭제하면 다음으로 최신인 글이 채워지고, 제목 수정은 새 제목으로 옮김")
+    void applyChanges() {
+        // given
+        write(1L, "java");
+        write(2L, "javascript");
+        write(3L, "jpa");
+        write(4L, "java 17");
+
+        // when
+        postTitleTrie.onPostChanged(PostChangedEvent.deleted(4L));
+        postTitleTrie.onPostChanged(PostChangedEvent.updated(3L, null, "kotlin", "content"));
+
+        // then
+        assertThat(suggestIds("j")).containsExactly(2L, 1L);
+        assertThat(suggestIds("java ")).isEmpty();
+        assertThat(suggestIds("jp")).isEmpty();
+        assertThat(suggestIds("k")).containsExactly(3L);
+        assertThat(postTitleTrie.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("무작위 작성, 삭제 후에도 전체 제목을 확인한 결과와 같음")
+    void randomChanges() {
+        // given
+        Random random = new Random(42);
+        String[] words = {"a", "ab", "abc", "b", "ba", "bab", "스프링", "스프", "java"};
+        Map<Long, String> expected = new HashMap<>();
+
+        // when
+        for (long id = 1; id <= 2000; ++id) {
+            String title = words[random.nextInt(words.length)] + (random.nextBoolean() ? "" : words[random.nextInt(words.length)]);
+            write(id, title);
+            expected.put(id, title);
+            if (random.nextInt(3) == 0) {
+                long removed = 1 + random.nextInt((int) id);
+                postTitleTrie.onPostChanged(PostChangedEvent.deleted(removed));
+                expected.remove(removed);
+            }
+        }
+
+        // then
+        for (String prefix : List.of("a", "ab", "aba", "b", "bab", "bj", "스", "스프링스", "j", "javaa")) {
+            List<Long> bruteForce = expected.entrySet()
+                                            .stream()
+                                            .filter(entry -> entry.getValue().startsWith(prefix))
+                                            .map(Map.Entry::getKey)
+                                            .sorted(Comparator.reverseOrder())
+                                            .limit(3)
+                                            .toList();
+            assertThat(suggestIds(prefix)).as(prefix).isEqualTo(bruteForce);
+        }
+        assertThat(postTitleTrie.size()).isEqualTo(expected.size());
+    }
+}
@@ -0,0 +1,64 @@
+package com.posts.service;
+
+import com.posts.event.PostChangedEvent;
+import com.posts.response.SerializedResponse;
+import com.posts.util.ResponseFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ResponseBytesCacheTest {
+
+    private static SerializedResponse page(String body) {
+        return new SerializedResponse(ResponseFormat.JSON, body.getBytes(StandardCharsets.UTF_8), null, "\"" + body + "\"");
+    }
+
+    @Test
+    @DisplayName("페이지를 불러오는 도중 글이 작성되면 불러온 이전 응답은 캐시에 남지 않음")
+    void writeDuringPageLoad() throws Exception {
+        // given
+        ResponseBytesCache cache = new ResponseBytesCache(1_000_000L, new SimpleMeterRegistry());
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch written = new CountDownLatch(1);
+        CompletableFuture<SerializedResponse> stale = CompletableFuture.supplyAsync(() -> cache.getPage(1, ResponseFormat.JSON, page -> {
+            loading.countDown();
+            try {
+                written.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return page("before");
+        }));
+
+        // when
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        cache.onPostChanged(PostChangedEvent.created(1L, "username", "title", "content"));
+        written.countDown();
+        stale.get(5, TimeUnit.SECONDS);
+        SerializedResponse after = cache.getPage(1, ResponseFormat.JSON, page -> page("after"));
+
+        // then
+        assertThat(new String(after.getBody(), StandardCharsets.UTF_8)).isEqualTo("after");
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 페이지 응답을 다시 불러오지 않음")
+    void cachedPage() {
+        // given
+        ResponseBytesCache cache = new ResponseBytesCache(1_000_000L, new SimpleMeterRegistry());
+        SerializedResponse first = cache.getPage(1, ResponseFormat.JSON, page -> page("first"));
+
+        // when
+        SerializedResponse second = cache.getPage(1, ResponseFormat.JSON, page -> page("second"));
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+}
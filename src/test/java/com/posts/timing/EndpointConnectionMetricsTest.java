@@ -0,0 +1,114 @@
+package com.posts.timing;
+
+import com.posts.domain.Post;
+import com.posts.repository.PostRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.http.MediaType.TEXT_PLAIN;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@AutoConfigureMockMvc
+@SpringBootTest
+class EndpointConnectionMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void clean() {
+        postRepository.deleteAll();
+    }
+
+    private Post save() {
+        return postRepository.save(Post.builder()
+                                       .username("test username")
+                                       .password(passwordEncoder.encode("test password"))
+                                       .title("test title")
+                                       .content("test content")
+                                       .build());
+    }
+
+    private static double millis(String serverTiming, String name) {
+        Matcher matcher = Pattern.compile(name + ";dur=([0-9.]+)").matcher(serverTiming);
+        assertThat(matcher.find()).isTrue();
+        return Double.parseDouble(matcher.group(1));
+    }
+
+    private Timer hold(String method, String uri) {
+        return meterRegistry.find(EndpointConnectionMetrics.HOLD)
+                            .tag("method", method)
+                            .tag("uri", uri)
+                            .timer();
+    }
+
+    @Test
+    @DisplayName("비밀번호 확인은 조회가 끝나면 커넥션을 반납하므로 BCrypt 비교 동안 커넥션을 잡지 않음")
+    void checkPasswordReleasesConnection() throws Exception {
+        // given
+        Post post = save();
+        Timer before = hold("POST", "/posts/post/check/{id}");
+        long beforeCount = before == null ? 0 : before.count();
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/posts/post/check/{id}", post.getId())
+                                         .contentType(TEXT_PLAIN)
+                                         .content("test password"))
+                                     .andReturn();
+        String serverTiming = mockMvc.perform(asyncDispatch(mvcResult))
+                                     .andExpect(status().isOk())
+                                     .andExpect(header().string("Server-Timing", containsString("desc=\"1 connections\"")))
+                                     .andReturn().getResponse().getHeader("Server-Timing");
+
+        // then
+        double hashing = millis(serverTiming, "hashing");
+        assertThat(millis(serverTiming, "hold")).isLessThan(hashing);
+        Timer hold = hold("POST", "/posts/post/check/{id}");
+        assertThat(hold.count()).isEqualTo(beforeCount + 1);
+        assertThat(hold.max(TimeUnit.MILLISECONDS)).isLessThan(hashing);
+    }
+
+    @Test
+    @DisplayName("직렬화된 응답 캐시에서 응답하면 커넥션을 얻지 않음")
+    void cachedResponseWithoutConnection() throws Exception {
+        // given
+        Post post = save();
+        mockMvc.perform(get("/posts/post/{id}", post.getId()))
+               .andExpect(status().isOk());
+
+        // expected
+        mockMvc.perform(get("/posts/post/{id}", post.getId()))
+               .andExpect(status().isOk())
+               .andExpect(header().string("Server-Timing", containsString("desc=\"0 connections\"")));
+        assertThat(meterRegistry.find(EndpointConnectionMetrics.COUNT)
+                                .tag("method", "GET")
+                                .tag("uri", "/posts/post/{id}")
+                                .summary()
+                                .count()).isGreaterThanOrEqualTo(2);
+    }
+}
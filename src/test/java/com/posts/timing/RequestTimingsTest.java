@@ -0,0 +1,30 @@
+package com.posts.timing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestTimingsTest {
+
+    @Test
+    @DisplayName("기본 로케일이 소수점으로 쉼표를 써도 Server-Timing 값은 점으로 출력")
+    void toServerTimingIgnoresDefaultLocale() {
+        // given
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.GERMANY);
+        try {
+            RequestTimings timings = RequestTimings.measure(() -> RequestTimings.recordStatement(1_500_000));
+
+            // when
+            String serverTiming = timings.toServerTiming();
+
+            // then
+            assertThat(serverTiming).startsWith("db;dur=1.50;desc=\"1 statements\"");
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+}
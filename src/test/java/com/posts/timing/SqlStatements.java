@@ -0,0 +1,25 @@
+package com.posts.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트에서 실행한 SQL 문장 수를 확인하는 도우미
+ * 비밀번호 해싱 스레드에서 이어서 실행되는 쿼리도 포함하므로 CompletableFuture는 task 안에서 join까지 호출
+ */
+public final class SqlStatements {
+
+    private SqlStatements() {
+    }
+
+    /**
+     * @return task가 실행한 SQL 문장 수, JDBC 배치는 한 번으로 셈
+     */
+    public static int count(Runnable task) {
+        return RequestTimings.measure(task).getStatements();
+    }
+
+    public static void assertStatements(int expected, Runnable task) {
+        assertThat(count(task)).as("SQL 문장 수")
+                               .isEqualTo(expected);
+    }
+}
@@ -0,0 +1,125 @@
+package com.posts.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ContentCodecTest {
+
+    private static final String[] WORDS = {
+            "게시판", "글", "작성", "내용", "오늘", "날씨가", "좋아서", "산책을", "했습니다", "그리고",
+            "the", "spring", "boot", "server", "request", "response", "cache", "database", "index", "query"
+    };
+
+    private ContentCodec contentCodec;
+
+    @BeforeEach
+    public void init() {
+        contentCodec = new ContentCodec(1024);
+    }
+
+    /**
+     * 자주 쓰는 단어가 반복되는 실제 게시글과 비슷한 문장 생성
+     */
+    private static String realisticText(int length, long seed) {
+        Random random = new Random(seed);
+        StringBuilder builder = new StringBuilder(length + 16);
+        while (builder.length() < length) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+            builder.append(random.nextInt(12) == 0 ? ".\n" : " ");
+        }
+        return builder.toString();
+    }
+
+    @Test
+    @DisplayName("기준보다 작은 내용은 압축하지 않음")
+    void rawBelowThreshold() {
+        // given
+        String content = "짧은 내용";
+
+        // when
+        byte[] encoded = contentCodec.encode(content);
+
+        // then
+        assertThat(encoded[0]).isEqualTo((byte) 0);
+        assertThat(encoded).hasSize(content.getBytes(StandardCharsets.UTF_8).length + 1);
+        assertThat(contentCodec.decode(encoded)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("기준 이상인 내용은 압축 후 복원")
+    void compressAboveThreshold() {
+        // given
+        String content = realisticText(8_000, 1L);
+
+        // when
+        byte[] encoded = contentCodec.encode(content);
+
+        // then
+        assertThat(encoded[0]).isEqualTo((byte) 1);
+        assertThat(encoded.length).isLessThan(content.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(contentCodec.decode(encoded)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("압축해도 작아지지 않는 내용은 그대로 저장")
+    void rawWhenIncompressible() {
+        // given
+        byte[] noise = new byte[4_000];
+        new Random(1L).nextBytes(noise);
+        StringBuilder builder = new StringBuilder();
+        for (byte b : noise) {
+            builder.append((char) ('!' + (b & 0x3f)));
+        }
+        String content = builder.toString();
+
+        // when
+        byte[] encoded = contentCodec.encode(content);
+
+        // then
+        assertThat(contentCodec.decode(encoded)).isEqualTo(content);
+        assertThat(encoded.length).isLessThanOrEqualTo(content.length() + 1);
+    }
+
+    @Test
+    @DisplayName("손상된 데이터 복원으로 예외 발생")
+    void decodeException() {
+        // given
+        byte[] encoded = contentCodec.encode(realisticText(8_000, 1L));
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length / 2);
+
+        // expected
+        assertThatThrownBy(() -> contentCodec.decode(truncated))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> contentCodec.decode(new byte[]{9}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("헤더가 잘렸거나 원본 길이가 올바르지 않은 압축 데이터 복원으로 예외 발생")
+    void decodeInvalidHeaderException() {
+        // given
+        byte[] encoded = contentCodec.encode(realisticText(8_000, 1L));
+        byte[] negative = encoded.clone();
+        ByteBuffer.wrap(negative, 1, Integer.BYTES).putInt(-1);
+        byte[] huge = encoded.clone();
+        ByteBuffer.wrap(huge, 1, Integer.BYTES).putInt(Integer.MAX_VALUE);
+
+        // expected
+        assertThatThrownBy(() -> contentCodec.decode(new byte[]{1}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> contentCodec.decode(new byte[]{1, 0, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> contentCodec.decode(negative))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> contentCodec.decode(huge))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
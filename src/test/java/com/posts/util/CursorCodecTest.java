@@ -0,0 +1,42 @@
+package com.posts.util;
+
+import com.posts.exception.InvalidCursorException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CursorCodecTest {
+
+    private CursorCodec cursorCodec;
+
+    @BeforeEach
+    public void init() {
+        cursorCodec = new CursorCodec();
+    }
+
+    @Test
+    @DisplayName("id를 커서로 변환 후 복원")
+    void encodeAndDecode() {
+        // given
+        Long id = 1_000L;
+
+        // when
+        String cursor = cursorCodec.encode(id);
+
+        // then
+        assertThat(cursor).doesNotContain("1000");
+        assertThat(cursorCodec.decode(cursor)).isEqualTo(id);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 복원으로 예외 발생")
+    void decodeException() {
+        // expected
+        assertThatThrownBy(() -> cursorCodec.decode("not a cursor!"))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> cursorCodec.decode(cursorCodec.encode(-1L)))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
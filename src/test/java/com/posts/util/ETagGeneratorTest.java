@@ -0,0 +1,75 @@
+package com.posts.util;
+
+import com.posts.response.PostSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ETagGeneratorTest {
+
+    private ETagGenerator eTagGenerator;
+
+    @BeforeEach
+    public void init() {
+        eTagGenerator = new ETagGenerator();
+    }
+
+    private static PostSummary summary(Long id, String title) {
+        return PostSummary.builder()
+                          .id(id)
+                          .username("username")
+                          .title(title)
+                          .build();
+    }
+
+    @Test
+    @DisplayName("글 id와 버전으로 강한 ETag 생성")
+    void ofVersion() {
+        // expected
+        assertThat(eTagGenerator.of(1L, 0L)).isEqualTo("\"1-0\"");
+        assertThat(eTagGenerator.of(1L, 1L)).isNotEqualTo(eTagGenerator.of(1L, 0L));
+    }
+
+    @Test
+    @DisplayName("If-Match 헤더에서 해당 글의 버전 추출")
+    void parseVersion() {
+        // expected
+        assertThat(eTagGenerator.parseVersion(1L, eTagGenerator.of(1L, 3L))).isEqualTo(3L);
+        assertThat(eTagGenerator.parseVersion(1L, "\"2-5\", \"1-4\"")).isEqualTo(4L);
+        assertThat(eTagGenerator.parseVersion(1L, "\"2-5\"")).isNull();
+        assertThat(eTagGenerator.parseVersion(1L, "\"1-abc\"")).isNull();
+        assertThat(eTagGenerator.parseVersion(1L, "W/\"1-3\"")).isNull();
+        assertThat(eTagGenerator.parseVersion(1L, "\"1-3-cbor-gzip\"")).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("형식, 압축마다 접미사를 붙인 ETag 생성")
+    void ofRepresentation() {
+        // given
+        String eTag = eTagGenerator.of(1L, 3L);
+
+        // expected
+        assertThat(eTagGenerator.of(eTag, ResponseFormat.JSON, false)).isEqualTo("\"1-3\"");
+        assertThat(eTagGenerator.of(eTag, ResponseFormat.JSON, true)).isEqualTo("\"1-3-gzip\"");
+        assertThat(eTagGenerator.of(eTag, ResponseFormat.CBOR, false)).isEqualTo("\"1-3-cbor\"");
+        assertThat(eTagGenerator.of(eTag, ResponseFormat.SMILE, true)).isEqualTo("\"1-3-smile-gzip\"");
+    }
+
+    @Test
+    @DisplayName("목록 내용이 같으면 같은 ETag, 제목이 바뀌면 다른 ETag")
+    void ofList() {
+        // given
+        List<PostSummary> list = List.of(summary(2L, "title 2"), summary(1L, "title 1"));
+        List<PostSummary> same = List.of(summary(2L, "title 2"), summary(1L, "title 1"));
+        List<PostSummary> edited = List.of(summary(2L, "edited"), summary(1L, "title 1"));
+
+        // expected
+        assertThat(eTagGenerator.of(list)).isEqualTo(eTagGenerator.of(same));
+        assertThat(eTagGenerator.of(list)).isNotEqualTo(eTagGenerator.of(edited));
+        assertThat(eTagGenerator.of(list)).startsWith("\"").endsWith("\"");
+    }
+}
@@ -0,0 +1,44 @@
+package com.posts.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ResponseFormatTest {
+
+    @Test
+    @DisplayName("Accept가 없거나 모든 형식을 허용하면 JSON")
+    void negotiateDefault() throws HttpMediaTypeNotAcceptableException {
+        // expected
+        assertThat(ResponseFormat.negotiate(null)).isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate("")).isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate("*/*")).isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate("application/*")).isEqualTo(ResponseFormat.JSON);
+    }
+
+    @Test
+    @DisplayName("q값이 높은 형식, 같으면 와일드카드가 아닌 형식을 선택")
+    void negotiatePreference() throws HttpMediaTypeNotAcceptableException {
+        // expected
+        assertThat(ResponseFormat.negotiate("application/cbor")).isEqualTo(ResponseFormat.CBOR);
+        assertThat(ResponseFormat.negotiate("application/x-jackson-smile")).isEqualTo(ResponseFormat.SMILE);
+        assertThat(ResponseFormat.negotiate("*/*, application/cbor")).isEqualTo(ResponseFormat.CBOR);
+        assertThat(ResponseFormat.negotiate("application/json;q=0.5, application/x-jackson-smile")).isEqualTo(ResponseFormat.SMILE);
+        assertThat(ResponseFormat.negotiate("application/cbor;q=0.5, application/json;q=0.9")).isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate("text/html, application/cbor;q=0.1")).isEqualTo(ResponseFormat.CBOR);
+    }
+
+    @Test
+    @DisplayName("지원하는 형식이 없거나 Accept를 해석할 수 없으면 예외 발생")
+    void negotiateNotAcceptable() {
+        // expected
+        assertThatThrownBy(() -> ResponseFormat.negotiate("text/plain"))
+                .isInstanceOf(HttpMediaTypeNotAcceptableException.class);
+        assertThatThrownBy(() -> ResponseFormat.negotiate("application/cbor;q=0"))
+                .isInstanceOf(HttpMediaTypeNotAcceptableException.class);
+        assertThatThrownBy(() -> ResponseFormat.negotiate("not a media type"))
+                .isInstanceOf(HttpMediaTypeNotAcceptableException.class);
+    }
+}
@@ -0,0 +1,117 @@
+package com.posts.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.posts.response.PostDetail;
+import com.posts.response.SerializedResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SerializedResponseWriterTest {
+
+    private ObjectMapper objectMapper;
+
+    private CBORMapper cborMapper;
+
+    private SerializedResponseWriter serializedResponseWriter;
+
+    @BeforeEach
+    void init() {
+        objectMapper = new ObjectMapper();
+        cborMapper = new CBORMapper();
+        serializedResponseWriter = new SerializedResponseWriter(Map.of(ResponseFormat.JSON, objectMapper,
+                                                                       ResponseFormat.CBOR, cborMapper,
+                                                                       ResponseFormat.SMILE, new SmileMapper()),
+                                                                new ETagGenerator());
+    }
+
+    private static PostDetail postDetail(String content) {
+        return PostDetail.builder()
+                         .id(1L)
+                         .username("username")
+                         .title("title")
+                         .content(content)
+                         .version(0L)
+                         .build();
+    }
+
+    @Test
+    @DisplayName("JSON과 압축한 본문을 함께 만들고, 압축해도 작아지지 않으면 gzip은 null")
+    void serialize() throws IOException {
+        // when
+        SerializedResponse small = serializedResponseWriter.serialize(postDetail("content"), "\"1-0\"", ResponseFormat.JSON);
+        SerializedResponse large = serializedResponseWriter.serialize(postDetail("content ".repeat(500)), "\"1-0\"", ResponseFormat.JSON);
+
+        // then
+        assertThat(small.getBody()).isEqualTo(objectMapper.writeValueAsBytes(postDetail("content")));
+        assertThat(small.getGzip()).isNull();
+        assertThat(large.getGzip()).hasSizeLessThan(large.getBody().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(large.getGzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(large.getBody());
+        }
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding에 gzip이 있을 때만 압축한 본문을 씀")
+    void write() throws IOException {
+        // given
+        SerializedResponse serialized = serializedResponseWriter.serialize(postDetail("content ".repeat(500)), "\"1-0\"", ResponseFormat.JSON);
+        MockHttpServletRequest plainRequest = new MockHttpServletRequest();
+        MockHttpServletRequest gzipRequest = new MockHttpServletRequest();
+        gzipRequest.addHeader("Accept-Encoding", "gzip, deflate");
+        MockHttpServletResponse plain = new MockHttpServletResponse();
+        MockHttpServletResponse gzip = new MockHttpServletResponse();
+
+        // when
+        serializedResponseWriter.write(serialized, plainRequest, plain);
+        serializedResponseWriter.write(serialized, gzipRequest, gzip);
+
+        // then
+        assertThat(plain.getContentAsByteArray()).isEqualTo(serialized.getBody());
+        assertThat(plain.getHeader("Content-Encoding")).isNull();
+        assertThat(plain.getHeader("ETag")).isEqualTo("\"1-0\"");
+        assertThat(plain.getContentType()).startsWith("application/json");
+        assertThat(gzip.getContentAsByteArray()).isEqualTo(serialized.getGzip());
+        assertThat(gzip.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(gzip.getHeader("ETag")).isEqualTo("\"1-0-gzip\"");
+        assertThat(gzip.getHeader("Vary")).isEqualTo("Accept, Accept-Encoding");
+        assertThat(gzip.getContentLength()).isEqualTo(serialized.getGzip().length);
+    }
+
+    @Test
+    @DisplayName("요청한 형식으로 직렬화하고 Content-Type도 해당 형식으로 씀")
+    void serializeCbor() throws IOException {
+        // given
+        SerializedResponse serialized = serializedResponseWriter.serialize(postDetail("content"), "\"1-0\"", ResponseFormat.CBOR);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        serializedResponseWriter.write(serialized, new MockHttpServletRequest(), response);
+
+        // then
+        PostDetail postDetail = cborMapper.readValue(response.getContentAsByteArray(), PostDetail.class);
+        assertThat(postDetail.getId()).isEqualTo(1L);
+        assertThat(postDetail.getContent()).isEqualTo("content");
+        assertThat(response.getContentType()).isEqualTo("application/cbor");
+        assertThat(response.getHeader("ETag")).isEqualTo("\"1-0-cbor\"");
+    }
+
+    @Test
+    @DisplayName("형식별 ObjectMapper가 모두 있어야 생성됨")
+    void missingFormat() {
+        // expected
+        assertThatThrownBy(() -> new SerializedResponseWriter(Map.of(ResponseFormat.JSON, objectMapper), new ETagGenerator()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}